@@ -5,11 +5,13 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableJpaRepositories(basePackages = "org.example.ticketabackened.repositories")
 @EntityScan("org.example.ticketabackened.domain.entity")
 @EnableJpaAuditing
+@EnableScheduling
 public class TicketaBackenedApplication {
 
     public static void main(String[] args) {
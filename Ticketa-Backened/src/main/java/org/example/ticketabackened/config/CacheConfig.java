@@ -0,0 +1,65 @@
+package org.example.ticketabackened.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+// Caches are Caffeine backed, sized and expired through spring.cache.caffeine.spec unless registered here
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    public static final String PUBLISHED_EVENT = "published-event";
+    public static final String PUBLISHED_EVENTS = "published-events";
+    public static final String PUBLISHED_EVENT_RESPONSE = "published-event-response";
+    public static final String KNOWN_USERS = "known-users";
+
+    // A synchronous Caffeine load runs inside ConcurrentHashMap.compute, which holds a monitor and so
+    // pins a virtual thread's carrier for the whole query. Async caches only store a future there and
+    // load on their own virtual thread.
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> virtualThreadCaches(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${spring.cache.caffeine.spec:}") String spec,
+            @Value("${ticketa.cache.published-event-response.max-size:10000}") long responseMaxSize,
+            @Value("${ticketa.cache.published-event-response.ttl-minutes:10}") long responseTtlMinutes) {
+        return cacheManager -> {
+            if (!virtualThreads) {
+                cacheManager.registerCustomCache(PUBLISHED_EVENT_RESPONSE,
+                        publishedEventResponseCaffeine(responseMaxSize, responseTtlMinutes).build());
+                return;
+            }
+            Executor loader = Executors.newVirtualThreadPerTaskExecutor();
+            Caffeine<Object, Object> common = spec.isEmpty() ? Caffeine.newBuilder() : Caffeine.from(spec);
+            cacheManager.setCaffeine(common.executor(loader));
+            cacheManager.setAsyncCacheMode(true);
+            cacheManager.registerCustomCache(PUBLISHED_EVENT_RESPONSE,
+                    publishedEventResponseCaffeine(responseMaxSize, responseTtlMinutes).executor(loader).buildAsync());
+        };
+    }
+
+    // Serialized responses are evicted on every change, expiry only bounds staleness across instances
+    private static Caffeine<Object, Object> publishedEventResponseCaffeine(long maxSize, long ttlMinutes) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats();
+    }
+
+    // Ids of users already provisioned, see UserProvisioningFilter
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> knownUsersCache(
+            @Value("${ticketa.cache.known-users.max-size:100000}") long maxSize) {
+        return cacheManager -> cacheManager.registerCustomCache(KNOWN_USERS, Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build());
+    }
+}
@@ -1,5 +1,6 @@
 package org.example.ticketabackened.config;
 
+import lombok.RequiredArgsConstructor;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -13,10 +14,15 @@ import java.util.Map;
 import java.util.stream.Collectors;
 
 @Component
+@RequiredArgsConstructor
 public class JwtAuthenticationConverter implements Converter<Jwt, JwtAuthenticationToken> {
+
+    private final VerifiedJwtCache verifiedJwtCache;
+
+    // A new token per request, the provider sets request details on it
     @Override
     public JwtAuthenticationToken convert(Jwt jwt) {
-        Collection<GrantedAuthority> authorities = getAuthorities(jwt);
+        Collection<GrantedAuthority> authorities = verifiedJwtCache.authorities(jwt, this::getAuthorities);
         return new JwtAuthenticationToken(jwt, authorities);
     }
 
@@ -31,6 +37,6 @@ public class JwtAuthenticationConverter implements Converter<Jwt, JwtAuthenticat
         return roles.stream()
                 .filter(role -> role.startsWith("ROLE_"))
                 .map(SimpleGrantedAuthority::new)
-                .collect(Collectors.toList());
+                .collect(Collectors.toUnmodifiableList());
     }
 }
@@ -0,0 +1,47 @@
+package org.example.ticketabackened.config;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.jwk.source.JWKSourceBuilder;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.time.Duration;
+
+@Configuration
+public class JwtDecoderConfig {
+
+    // The key set is refreshed in the background before it expires, so Keycloak is only on the request
+    // path for a token signed with a key we have not seen yet
+    @Bean
+    public JwtDecoder jwtDecoder(
+            VerifiedJwtCache verifiedJwtCache,
+            @Value("${spring.security.oauth2.resourceserver.jwt.issuer-uri}") String issuerUri,
+            @Value("${spring.security.oauth2.resourceserver.jwt.jwk-set-uri}") String jwkSetUri,
+            @Value("${ticketa.security.jwk-set.ttl-minutes:10}") long ttlMinutes,
+            @Value("${ticketa.security.jwk-set.refresh-ahead-seconds:30}") long refreshAheadSeconds) throws MalformedURLException {
+        JWKSource<SecurityContext> jwkSource = JWKSourceBuilder.<SecurityContext>create(URI.create(jwkSetUri).toURL())
+                .cache(Duration.ofMinutes(ttlMinutes).toMillis(), JWKSourceBuilder.DEFAULT_CACHE_REFRESH_TIMEOUT)
+                .refreshAheadCache(Duration.ofSeconds(refreshAheadSeconds).toMillis(), true)
+                .build();
+
+        DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+        processor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, jwkSource));
+        // Claims are checked by the Spring validators below
+        processor.setJWTClaimsSetVerifier((claims, context) -> {
+        });
+
+        NimbusJwtDecoder verifier = new NimbusJwtDecoder(processor);
+        verifier.setJwtValidator(JwtValidators.createDefaultWithIssuer(issuerUri));
+        return token -> verifiedJwtCache.get(token, verifier::decode);
+    }
+}
@@ -0,0 +1,95 @@
+package org.example.ticketabackened.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import jakarta.annotation.PreDestroy;
+import org.example.ticketabackened.controllers.ReactivePublishedEventsHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.reactive.CorsWebFilter;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Optional non-blocking read path for anonymous catalogue traffic: GET /published-events and
+ * /published-events/{eventId} on a separate Netty port, read over R2DBC from published_event_view.
+ * Purchases and everything else stay on Tomcat and JDBC, so a browsing spike cannot take their
+ * connections. Boot's own R2DBC auto-configuration is excluded (application.properties) and the pool
+ * is not a ConnectionFactory bean, otherwise Boot would run schema.sql and register a transaction
+ * manager against it.
+ */
+@Configuration
+@ConditionalOnProperty(name = "ticketa.catalogue.reactive.enabled", havingValue = "true")
+public class ReactiveCatalogueConfig {
+
+    private final ConnectionPool connectionPool;
+
+    public ReactiveCatalogueConfig(
+            @Value("${ticketa.catalogue.reactive.url}") String url,
+            @Value("${spring.datasource.username}") String username,
+            @Value("${spring.datasource.password}") String password,
+            @Value("${ticketa.catalogue.reactive.pool-size:10}") int poolSize) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .initialSize(Math.min(2, poolSize))
+                .maxSize(poolSize)
+                .maxIdleTime(Duration.ofMinutes(30))
+                .build());
+    }
+
+    @PreDestroy
+    void closePool() {
+        connectionPool.dispose();
+    }
+
+    @Bean
+    public DatabaseClient catalogueDatabaseClient() {
+        return DatabaseClient.create(connectionPool);
+    }
+
+    @Bean
+    public ReactiveCatalogueServer reactiveCatalogueServer(
+            ReactivePublishedEventsHandler handler,
+            ObjectMapper objectMapper,
+            @Value("${ticketa.catalogue.reactive.port:8081}") int port,
+            @Value("${ticketa.catalogue.reactive.event-loop-threads:4}") int eventLoopThreads) {
+        RouterFunction<ServerResponse> routes = RouterFunctions.route()
+                .GET("/published-events", handler::getPublishedEvents)
+                .GET("/published-events/{eventId}", handler::getPublishedEventDetails)
+                .build();
+
+        // Same origins as WebConfig, read-only
+        CorsConfiguration cors = new CorsConfiguration();
+        cors.setAllowedOrigins(List.of("http://localhost:5173"));
+        cors.setAllowedMethods(List.of(HttpMethod.GET.name()));
+        cors.addAllowedHeader("*");
+        UrlBasedCorsConfigurationSource corsSource = new UrlBasedCorsConfigurationSource();
+        corsSource.registerCorsConfiguration("/**", cors);
+
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(codecs -> codecs.defaultCodecs().jackson2JsonEncoder(
+                        new Jackson2JsonEncoder(objectMapper, MediaType.APPLICATION_JSON, MediaType.APPLICATION_NDJSON)))
+                .webFilter(new CorsWebFilter(corsSource))
+                .build();
+        return new ReactiveCatalogueServer(RouterFunctions.toHttpHandler(routes, strategies), port, eventLoopThreads);
+    }
+}
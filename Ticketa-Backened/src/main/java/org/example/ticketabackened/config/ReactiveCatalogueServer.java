@@ -0,0 +1,53 @@
+package org.example.ticketabackened.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.LoopResources;
+
+import java.time.Duration;
+
+// Netty server for the reactive catalogue, started with the context and stopped before the beans it uses
+@Slf4j
+public class ReactiveCatalogueServer implements SmartLifecycle {
+
+    private final HttpHandler httpHandler;
+    private final int port;
+    private final int eventLoopThreads;
+
+    private volatile DisposableServer server;
+    private LoopResources loops;
+
+    public ReactiveCatalogueServer(HttpHandler httpHandler, int port, int eventLoopThreads) {
+        this.httpHandler = httpHandler;
+        this.port = port;
+        this.eventLoopThreads = eventLoopThreads;
+    }
+
+    @Override
+    public void start() {
+        loops = LoopResources.create("catalogue-http", eventLoopThreads, true);
+        server = HttpServer.create()
+                .port(port)
+                .runOn(loops)
+                .compress(true)
+                .handle(new ReactorHttpHandlerAdapter(httpHandler))
+                .bindNow();
+        log.info("Reactive catalogue listening on port {} with {} event loop threads", server.port(), eventLoopThreads);
+    }
+
+    @Override
+    public void stop() {
+        server.disposeNow(Duration.ofSeconds(10));
+        loops.disposeLater().block(Duration.ofSeconds(10));
+        server = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.ticketabackened.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Builds the application's own background threads. With spring.threads.virtual.enabled they are
+ * virtual, like Tomcat's request threads and the scheduler; otherwise named platform daemon threads.
+ */
+@Component
+public class ThreadBuilders {
+
+    private final boolean virtual;
+
+    public ThreadBuilders(@Value("${spring.threads.virtual.enabled:false}") boolean virtual) {
+        this.virtual = virtual;
+    }
+
+    public Thread start(String name, Runnable task) {
+        return virtual
+                ? Thread.ofVirtual().name(name).start(task)
+                : Thread.ofPlatform().name(name).daemon(true).start(task);
+    }
+
+    public ThreadFactory factory(String prefix) {
+        return virtual
+                ? Thread.ofVirtual().name(prefix, 0).factory()
+                : Thread.ofPlatform().name(prefix, 0).daemon(true).factory();
+    }
+}
@@ -0,0 +1,98 @@
+package org.example.ticketabackened.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * Bearer tokens that already passed verification, keyed by their SHA-256 and dropped when the token
+ * expires. Scanners and browsers send the same token for minutes at a time, so most requests skip the
+ * signature check and the role mapping.
+ */
+@Component
+public class VerifiedJwtCache {
+
+    private final Cache<String, VerifiedJwt> cache;
+
+    public VerifiedJwtCache(
+            @Value("${ticketa.security.jwt-cache.max-size:100000}") long maxSize,
+            @Value("${ticketa.security.jwt-cache.max-ttl-seconds:300}") long maxTtlSeconds) {
+        Duration maxTtl = Duration.ofSeconds(maxTtlSeconds);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(Expiry.<String, VerifiedJwt>writing((key, verified) -> ttl(verified.jwt, maxTtl)))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Returns the verified token, calling {@code verifier} only when it is not cached. Verification
+     * failures are not cached and propagate as thrown.
+     */
+    public Jwt get(String token, Function<String, Jwt> verifier) {
+        String key = hash(token);
+        VerifiedJwt verified = cache.getIfPresent(key);
+        if (verified != null) {
+            return verified.jwt;
+        }
+        Jwt jwt = verifier.apply(token);
+        cache.put(key, new VerifiedJwt(jwt));
+        return jwt;
+    }
+
+    public Collection<GrantedAuthority> authorities(Jwt jwt, Function<Jwt, Collection<GrantedAuthority>> mapper) {
+        VerifiedJwt verified = cache.getIfPresent(hash(jwt.getTokenValue()));
+        if (verified == null) {
+            return mapper.apply(jwt);
+        }
+        Collection<GrantedAuthority> authorities = verified.authorities;
+        if (authorities == null) {
+            authorities = mapper.apply(jwt);
+            verified.authorities = authorities;
+        }
+        return authorities;
+    }
+
+    private static Duration ttl(Jwt jwt, Duration maxTtl) {
+        if (jwt.getExpiresAt() == null) {
+            return maxTtl;
+        }
+        Duration untilExpiry = Duration.between(Instant.now(), jwt.getExpiresAt());
+        if (untilExpiry.isNegative()) {
+            return Duration.ZERO;
+        }
+        return untilExpiry.compareTo(maxTtl) < 0 ? untilExpiry : maxTtl;
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static final class VerifiedJwt {
+        private final Jwt jwt;
+        // Filled by the first conversion, the same roles for every request with this token
+        private volatile Collection<GrantedAuthority> authorities;
+
+        private VerifiedJwt(Jwt jwt) {
+            this.jwt = jwt;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.ticketabackened.domain.dto.*;
 import org.example.ticketabackened.domain.entity.Event;
+import org.example.ticketabackened.domain.model.CursorPage;
 import org.example.ticketabackened.domain.model.EventCreationRequest;
 import org.example.ticketabackened.domain.model.EventUpdationRequest;
 import org.example.ticketabackened.mappers.EventMapper;
@@ -46,6 +47,18 @@ public class EventController {
         return ResponseEntity.ok(events.map(eventMapper::togetEventsResponseDto));
     }
 
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorPageResponseDto<getEventsResponseDto>> getEvents(
+            @AuthenticationPrincipal Jwt principal,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        UUID userId = UUID.fromString(principal.getSubject());
+        CursorPage<getEventsResponseDto> events = eventService.getEventsForOrganiser(userId, cursor, size)
+                .map(eventMapper::togetEventsResponseDto);
+        return ResponseEntity.ok(new CursorPageResponseDto<>(events.getContent(), events.getNextCursor(), events.getNextCursor() != null));
+    }
+
     @GetMapping("/{eventId}")
     public ResponseEntity<getEventDetailsResponseDto> getEvent(
             @AuthenticationPrincipal Jwt principal,
@@ -1,16 +1,29 @@
 package org.example.ticketabackened.controllers;
 
 import lombok.RequiredArgsConstructor;
-import org.example.ticketabackened.domain.dto.getPublishedEventDetailsResponseDto;
+import org.example.ticketabackened.domain.dto.CursorPageResponseDto;
+import org.example.ticketabackened.domain.dto.getEventSuggestionResponseDto;
+import org.example.ticketabackened.domain.dto.getPublishedEventFacetsResponseDto;
 import org.example.ticketabackened.domain.dto.getPublishedEventsResponseDto;
-import org.example.ticketabackened.domain.entity.Event;
+import org.example.ticketabackened.domain.entity.PublishedEventView;
+import org.example.ticketabackened.domain.model.CursorPage;
+import org.example.ticketabackened.domain.model.EventFilter;
+import org.example.ticketabackened.domain.model.SerializedResponse;
 import org.example.ticketabackened.mappers.EventMapper;
-import org.example.ticketabackened.service.EventService;
-import org.springframework.data.domain.Page;
+import org.example.ticketabackened.service.EventSuggestionService;
+import org.example.ticketabackened.service.PublishedEventResponseService;
+import org.example.ticketabackened.service.PublishedEventService;
+import org.example.ticketabackened.service.TicketAvailabilityService;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -18,32 +31,106 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class PublishedEventsController {
 
-    private final EventService eventService;
+    private final PublishedEventService publishedEventService;
 
     private final EventMapper eventMapper;
 
+    private final EventSuggestionService eventSuggestionService;
+
+    private final PublishedEventResponseService publishedEventResponseService;
+
+    private final TicketAvailabilityService ticketAvailabilityService;
+
+    // Search results are a slice without a total, the listings are counted pages
     @GetMapping
-    public ResponseEntity<Page<getPublishedEventsResponseDto>> getPublishedEvents(
+    public ResponseEntity<Slice<getPublishedEventsResponseDto>> getPublishedEvents(
             Pageable pageable,
-            @RequestParam(required = false) String query
+            @RequestParam(required = false) String query,
+            EventFilter filter
     ) {
-        Page<Event> events;
+        Slice<PublishedEventView> events;
         if (query != null && !query.trim().isEmpty()) {
-            events = eventService.searchPublishedEvents(query, pageable);
+            events = publishedEventService.searchPublishedEvents(query, pageable);
+        } else if (!filter.isEmpty()) {
+            events = publishedEventService.getPublishedEvents(filter, pageable);
         } else {
-            events = eventService.getPublishedEvents(pageable);
+            events = publishedEventService.getPublishedEvents(pageable);
         }
         return ResponseEntity.ok(events.map(eventMapper::toPublishedEventsResponseDto));
     }
 
+    // Keyset pages of the unfiltered listing, search results stay offset paged
+    @GetMapping(params = {"cursor", "!query"})
+    public ResponseEntity<CursorPageResponseDto<getPublishedEventsResponseDto>> getPublishedEvents(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        CursorPage<getPublishedEventsResponseDto> events = publishedEventService.getPublishedEvents(cursor, size)
+                .map(eventMapper::toPublishedEventsResponseDto);
+        return ResponseEntity.ok(new CursorPageResponseDto<>(events.getContent(), events.getNextCursor(), events.getNextCursor() != null));
+    }
+
+    @GetMapping("/facets")
+    public ResponseEntity<getPublishedEventFacetsResponseDto> getPublishedEventFacets(EventFilter filter) {
+        return ResponseEntity.ok(eventMapper.toPublishedEventFacetsResponseDto(publishedEventService.getPublishedEventFacets(filter)));
+    }
+
+    @GetMapping("/suggestions")
+    public ResponseEntity<List<getEventSuggestionResponseDto>> getSuggestions(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "8") int limit
+    ) {
+        return ResponseEntity.ok(eventSuggestionService.suggest(prefix, limit).stream()
+                .map(eventMapper::toEventSuggestionResponseDto)
+                .toList());
+    }
+
     @GetMapping("/{eventId}")
-    public ResponseEntity<getPublishedEventDetailsResponseDto> getPublishedEventDetails(
-            @PathVariable UUID eventId
+    public ResponseEntity<byte[]> getPublishedEventDetails(
+            @PathVariable UUID eventId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
     ) {
-        return eventService.getPublishedEvent(eventId)
-                .map(eventMapper::toPublishedEventDetailsResponseDto)
+        SerializedResponse response = publishedEventResponseService.getPublishedEventDetails(eventId).orElse(null);
+        if (response == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if (matchesEtag(ifNoneMatch, response.getEtag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(response.getEtag()).build();
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .eTag(response.getEtag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(response.getGzippedJson());
+        }
+        return builder.body(response.getJson());
+    }
+
+    // Server-sent "availability" events with remaining tickets per ticket type, instead of polling the details
+    @GetMapping(path = "/{eventId}/availability", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamAvailability(@PathVariable UUID eventId) {
+        return ticketAvailabilityService.subscribe(eventId)
                 .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    private boolean matchesEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
     }
 
 }
@@ -0,0 +1,78 @@
+package org.example.ticketabackened.controllers;
+
+import lombok.RequiredArgsConstructor;
+import org.example.ticketabackened.domain.dto.getPublishedEventsResponseDto;
+import org.example.ticketabackened.domain.entity.PublishedEventView;
+import org.example.ticketabackened.mappers.EventMapper;
+import org.example.ticketabackened.service.ReactivePublishedEventService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Public catalogue reads for the reactive server (see ReactiveCatalogueConfig), same DTOs as
+ * PublishedEventsController. Lists are written to the socket row by row as the database returns them.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ticketa.catalogue.reactive.enabled", havingValue = "true")
+public class ReactivePublishedEventsHandler {
+
+    private final ReactivePublishedEventService reactivePublishedEventService;
+
+    private final EventMapper eventMapper;
+
+    // A JSON array, or NDJSON when asked for; no page metadata or total count
+    public Mono<ServerResponse> getPublishedEvents(ServerRequest request) {
+        int page = intParam(request, "page", 0);
+        int size = intParam(request, "size", 20);
+        String query = request.queryParam("query").map(String::trim).orElse("");
+
+        Flux<PublishedEventView> events = query.isEmpty()
+                ? reactivePublishedEventService.getPublishedEvents(page, size)
+                : reactivePublishedEventService.searchPublishedEvents(query, page, size);
+        MediaType contentType = request.headers().accept().contains(MediaType.APPLICATION_NDJSON)
+                ? MediaType.APPLICATION_NDJSON
+                : MediaType.APPLICATION_JSON;
+        return ServerResponse.ok()
+                .contentType(contentType)
+                .body(events.map(eventMapper::toPublishedEventsResponseDto), getPublishedEventsResponseDto.class);
+    }
+
+    public Mono<ServerResponse> getPublishedEventDetails(ServerRequest request) {
+        UUID eventId = uuidParam(request.pathVariable("eventId"));
+        return reactivePublishedEventService.getPublishedEvent(eventId)
+                .map(eventMapper::toPublishedEventDetailsResponseDto)
+                .flatMap(event -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(event))
+                .switchIfEmpty(ServerResponse.notFound().build());
+    }
+
+    private static int intParam(ServerRequest request, String name, int defaultValue) {
+        String value = request.queryParam(name).orElse(null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException ex) {
+            throw new ServerWebInputException("Invalid " + name + ": " + value);
+        }
+    }
+
+    private static UUID uuidParam(String value) {
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException ex) {
+            throw new ServerWebInputException("Invalid event id: " + value);
+        }
+    }
+}
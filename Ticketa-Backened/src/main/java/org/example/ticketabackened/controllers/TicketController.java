@@ -1,8 +1,10 @@
 package org.example.ticketabackened.controllers;
 
 import lombok.RequiredArgsConstructor;
+import org.example.ticketabackened.domain.dto.CursorPageResponseDto;
 import org.example.ticketabackened.domain.dto.getTicketResponseDto;
 import org.example.ticketabackened.domain.dto.getTicketsResponseDto;
+import org.example.ticketabackened.domain.model.CursorPage;
 import org.example.ticketabackened.mappers.TicketMapper;
 import org.example.ticketabackened.service.QrCodeService;
 import org.example.ticketabackened.service.TicketService;
@@ -16,6 +18,7 @@ import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import java.util.UUID;
 
@@ -37,6 +40,17 @@ public class TicketController {
         return ticketService.getTicketsForUser(userId, pageable).map(ticketMapper::toDto);
     }
 
+    @GetMapping(params = "cursor")
+    public CursorPageResponseDto<getTicketsResponseDto> getAllTickets(
+            @AuthenticationPrincipal Jwt principal,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        UUID userId = UUID.fromString(principal.getSubject());
+        CursorPage<getTicketsResponseDto> tickets = ticketService.getTicketsForUser(userId, cursor, size).map(ticketMapper::toDto);
+        return new CursorPageResponseDto<>(tickets.getContent(), tickets.getNextCursor(), tickets.getNextCursor() != null);
+    }
+
     @GetMapping("/{ticketId}")
     public ResponseEntity<getTicketResponseDto> getTicket(
             @AuthenticationPrincipal Jwt principal,
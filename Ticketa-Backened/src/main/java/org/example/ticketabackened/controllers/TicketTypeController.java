@@ -1,16 +1,26 @@
 package org.example.ticketabackened.controllers;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.ticketabackened.domain.dto.TicketPurchaseRequestDto;
+import org.example.ticketabackened.domain.dto.TicketPurchaseResponseDto;
+import org.example.ticketabackened.domain.dto.getTicketInventoryResponseDto;
+import org.example.ticketabackened.domain.entity.Ticket;
+import org.example.ticketabackened.domain.model.TicketInventory;
+import org.example.ticketabackened.mappers.TicketInventoryMapper;
 import org.example.ticketabackened.service.TicketTypeService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -18,6 +28,7 @@ import java.util.UUID;
 @RequestMapping(path = "/events/{eventId}/ticket-types")
 public class TicketTypeController {
     private final TicketTypeService ticketTypeService;
+    private final TicketInventoryMapper ticketInventoryMapper;
 
     @PostMapping("/{ticketTypeId}/tickets")
     public ResponseEntity<Void> purchaseTicket(
@@ -28,4 +39,27 @@ public class TicketTypeController {
         ticketTypeService.purchaseTicket(userId, ticketTypeId);
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
+
+    @PostMapping("/{ticketTypeId}/tickets/batch")
+    public ResponseEntity<TicketPurchaseResponseDto> purchaseTickets(
+            @AuthenticationPrincipal Jwt principal,
+            @PathVariable UUID ticketTypeId,
+            @Valid @RequestBody TicketPurchaseRequestDto requestDto
+    ) {
+        UUID userId = UUID.fromString(principal.getSubject());
+        List<Ticket> tickets = ticketTypeService.purchaseTickets(userId, ticketTypeId, requestDto.getQuantity());
+        List<UUID> ticketIds = tickets.stream().map(Ticket::getId).toList();
+        return ResponseEntity.ok(new TicketPurchaseResponseDto(ticketIds));
+    }
+
+    @GetMapping("/{ticketTypeId}/inventory")
+    public ResponseEntity<getTicketInventoryResponseDto> getInventory(
+            @AuthenticationPrincipal Jwt principal,
+            @PathVariable UUID eventId,
+            @PathVariable UUID ticketTypeId
+    ) {
+        UUID organiserId = UUID.fromString(principal.getSubject());
+        TicketInventory inventory = ticketTypeService.getInventoryForOrganiser(organiserId, eventId, ticketTypeId);
+        return ResponseEntity.ok(ticketInventoryMapper.toDto(inventory));
+    }
 }
@@ -1,6 +1,9 @@
 package org.example.ticketabackened.controllers;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.ticketabackened.domain.dto.TicketValidationBatchRequestDto;
+import org.example.ticketabackened.domain.dto.TicketValidationBatchResponseDto;
 import org.example.ticketabackened.domain.dto.TicketValidationRequestDto;
 import org.example.ticketabackened.domain.dto.TicketValidationResponseDto;
 import org.example.ticketabackened.domain.entity.TicketValidation;
@@ -13,6 +16,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping(path = "/ticket-validations")
@@ -29,10 +34,23 @@ public class TicketValidationController {
         if (TicketValidationMethod.MANUAL.equals(validationMethod)) {
             ticketValidation = ticketValidationService
                     .validateTicketManually(ticketValidationRequestDto.getId());
+        } else if (ticketValidationRequestDto.getCode() != null) {
+            ticketValidation = ticketValidationService.validateTicketByQrPayload(
+                    ticketValidationRequestDto.getCode(), ticketValidationRequestDto.getEventId());
         } else {
             ticketValidation = ticketValidationService
                     .validateTicketByQrCode(ticketValidationRequestDto.getId());
         }
         return ResponseEntity.ok(ticketValidationMapper.toTicketValidationResponseDto(ticketValidation));
     }
+
+    @PostMapping("/batch")
+    public ResponseEntity<TicketValidationBatchResponseDto> validateTickets(
+            @Valid @RequestBody final TicketValidationBatchRequestDto requestDto
+    ) {
+        List<TicketValidation> ticketValidations = ticketValidationService.validateTickets(
+                requestDto.getEventId(), ticketValidationMapper.fromDto(requestDto.getScans()));
+        return ResponseEntity.ok(new TicketValidationBatchResponseDto(
+                ticketValidationMapper.toTicketValidationResponseDtos(ticketValidations)));
+    }
 }
@@ -0,0 +1,32 @@
+package org.example.ticketabackened.controllers;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.example.ticketabackened.service.ValidationSnapshotService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.UUID;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping(path = "/ticket-validations/snapshot")
+public class ValidationSnapshotController {
+    private final ValidationSnapshotService validationSnapshotService;
+
+    @GetMapping
+    public void downloadSnapshot(
+            @RequestParam UUID eventId,
+            @RequestParam(required = false) Long since,
+            HttpServletResponse response
+    ) throws IOException {
+        response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+        validationSnapshotService.writeSnapshot(eventId, since, response.getOutputStream());
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.ticketabackened.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPageResponseDto<T> {
+    private List<T> content;
+    // Pass back as ?cursor= for the next page, null on the last page
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -0,0 +1,15 @@
+package org.example.ticketabackened.domain.dto;
+
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TicketPurchaseRequestDto {
+
+    @Min(value = 1, message = "At least 1 ticket must be purchased")
+    private int quantity;
+}
@@ -0,0 +1,16 @@
+package org.example.ticketabackened.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TicketPurchaseResponseDto {
+    private List<UUID> ticketIds = new ArrayList<>();
+}
@@ -0,0 +1,22 @@
+package org.example.ticketabackened.domain.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.ticketabackened.domain.enums.TicketValidationMethod;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TicketScanRequestDto {
+    private UUID id;
+    private String code;
+    @NotNull(message = "Validation method is required")
+    private TicketValidationMethod method;
+    // Time on the scanner when the ticket was scanned
+    private LocalDateTime scannedAt;
+}
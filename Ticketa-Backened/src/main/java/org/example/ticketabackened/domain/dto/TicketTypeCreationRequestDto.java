@@ -24,4 +24,10 @@ public class TicketTypeCreationRequestDto {
 
     @Min(value = 1, message = "There must be at least 1 ticket available")
     private int availableTickets;
+
+    @Min(value = 1, message = "There must be at least 1 inventory shard")
+    @Max(value = 64, message = "Inventory shards must not exceed 64")
+    private Integer inventoryShards;
+
+    private Boolean flashSale;
 }
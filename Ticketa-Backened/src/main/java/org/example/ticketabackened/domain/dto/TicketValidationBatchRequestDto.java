@@ -0,0 +1,21 @@
+package org.example.ticketabackened.domain.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TicketValidationBatchRequestDto {
+    private UUID eventId;
+    @NotEmpty(message = "At least one scan is required")
+    @Size(max = 1000, message = "At most 1000 scans can be synced at once")
+    private List<@Valid TicketScanRequestDto> scans;
+}
@@ -0,0 +1,15 @@
+package org.example.ticketabackened.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TicketValidationBatchResponseDto {
+    // One result per scan, in request order
+    private List<TicketValidationResponseDto> results;
+}
@@ -11,5 +11,8 @@ import java.util.UUID;
 @NoArgsConstructor
 public class TicketValidationRequestDto {
     private UUID id;
+    // Raw scanned QR content, either a signed payload or a QR code id
+    private String code;
+    private UUID eventId;
     private TicketValidationMethod method;
 }
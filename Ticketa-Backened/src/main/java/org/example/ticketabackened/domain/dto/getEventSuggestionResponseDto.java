@@ -0,0 +1,17 @@
+package org.example.ticketabackened.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.ticketabackened.domain.enums.EventSuggestionType;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class getEventSuggestionResponseDto {
+    private String text;
+    private EventSuggestionType type;
+    private UUID eventId;
+}
@@ -16,6 +16,8 @@ public class getEventTicketTypeResponseDto {
     private String description;
     private double price;
     private int availableTickets;
+    private int inventoryShards;
+    private boolean flashSale;
     private LocalDateTime createdAt;
     private LocalDateTime modifiedAt;
 }
@@ -0,0 +1,17 @@
+package org.example.ticketabackened.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class getPublishedEventFacetsResponseDto {
+    private long totalEvents;
+    private Map<String, Long> venues = new LinkedHashMap<>();
+    private Map<String, Long> months = new LinkedHashMap<>();
+}
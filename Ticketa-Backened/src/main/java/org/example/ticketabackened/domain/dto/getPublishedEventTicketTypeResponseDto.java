@@ -15,4 +15,5 @@ public class getPublishedEventTicketTypeResponseDto {
     private String name;
     private String description;
     private double price;
+    private int remainingTickets;
 }
@@ -0,0 +1,21 @@
+package org.example.ticketabackened.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class getTicketInventoryResponseDto {
+    private UUID ticketTypeId;
+    private int inventoryShards;
+    private int totalTickets;
+    private int soldTickets;
+    private int remainingTickets;
+    private List<getTicketInventoryShardResponseDto> shards = new ArrayList<>();
+}
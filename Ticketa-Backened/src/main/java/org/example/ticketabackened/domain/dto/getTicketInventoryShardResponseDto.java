@@ -0,0 +1,15 @@
+package org.example.ticketabackened.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class getTicketInventoryShardResponseDto {
+    private int shardIndex;
+    private int capacity;
+    private int soldTickets;
+    private int remainingTickets;
+}
@@ -0,0 +1,15 @@
+package org.example.ticketabackened.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class getTicketTypeAvailabilityResponseDto {
+    private UUID id;
+    private int remainingTickets;
+}
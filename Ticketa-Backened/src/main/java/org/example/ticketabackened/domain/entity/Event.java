@@ -3,6 +3,7 @@ package org.example.ticketabackened.domain.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import org.example.ticketabackened.domain.enums.EventStatus;
+import org.hibernate.annotations.BatchSize;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import java.time.LocalDateTime;
@@ -21,7 +22,7 @@ import java.util.UUID;
 public class Event {
     @Id
     @Column(name = "id", nullable = false, updatable = false)
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     @Column(name = "event_Name", nullable = false)
@@ -56,7 +57,9 @@ public class Event {
     @ManyToMany(mappedBy = "staffingEvents")
     private List<User> staffMembers = new ArrayList<>();
 
+    // Loaded for a whole page of events in one query instead of one per event
     @OneToMany(mappedBy = "event", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100)
     private List<TicketType> ticketTypes = new ArrayList<>();
 
     @CreatedDate
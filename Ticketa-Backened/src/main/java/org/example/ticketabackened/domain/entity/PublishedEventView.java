@@ -0,0 +1,63 @@
+package org.example.ticketabackened.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.example.ticketabackened.domain.model.PublishedTicketType;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Read side of a published event: one flat row per event, ticket types embedded as JSON. Written only
+ * by PublishedEventProjectionService from the event write paths, never edited directly.
+ */
+@Entity
+@Table(name = "published_event_view")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PublishedEventView {
+
+    @Id
+    @Column(name = "id", nullable = false, updatable = false)
+    private UUID id;
+
+    @Column(name = "event_name", nullable = false)
+    private String eventName;
+
+    @Column(name = "start_date_time", nullable = false)
+    private LocalDateTime startDateTime;
+
+    @Column(name = "end_date_time", nullable = false)
+    private LocalDateTime endDateTime;
+
+    @Column(name = "venue", nullable = false)
+    private String venue;
+
+    @Column(name = "sales_start_date_time")
+    private LocalDateTime salesStartDateTime;
+
+    @Column(name = "sales_end_date_time")
+    private LocalDateTime salesEndDateTime;
+
+    @Column(name = "min_price")
+    private Double minPrice;
+
+    @Column(name = "max_price")
+    private Double maxPrice;
+
+    @Column(name = "remaining_tickets", nullable = false)
+    private int remainingTickets;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "ticket_types", nullable = false)
+    private List<PublishedTicketType> ticketTypes = new ArrayList<>();
+
+    @Column(name = "refreshed_at", nullable = false)
+    private LocalDateTime refreshedAt;
+}
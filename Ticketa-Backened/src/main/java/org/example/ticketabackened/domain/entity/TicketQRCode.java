@@ -5,6 +5,7 @@ import lombok.*;
 import org.example.ticketabackened.domain.enums.QrCodeStatus;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 import java.util.Objects;
@@ -17,7 +18,7 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class TicketQRCode {
+public class TicketQRCode implements Persistable<UUID> {
 
     @Id
     @Column(name = "id", nullable = false, updatable = false)
@@ -27,7 +28,12 @@ public class TicketQRCode {
     @Enumerated(EnumType.STRING)
     private QrCodeStatus codeStatus;
 
-    @Column(name = "value", columnDefinition = "TEXT", nullable = false)
+    // Signed content encoded in the image, null for codes that only encode their id
+    @Column(name = "payload")
+    private String payload;
+
+    // Null until the PNG has been rendered, see QrCodeServiceImpl
+    @Column(name = "value", columnDefinition = "TEXT")
     private String value;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -42,16 +48,32 @@ public class TicketQRCode {
     @Column(name = "modified_At", nullable = false)
     private LocalDateTime modifiedAt;
 
+    // The id is assigned before saving, so Spring Data can't tell a new code from a detached one by it
+    @Transient
+    @Builder.Default
+    private boolean newCode = true;
+
+    @Override
+    public boolean isNew() {
+        return newCode;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newCode = false;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         TicketQRCode that = (TicketQRCode) o;
-        return Objects.equals(id, that.id) && codeStatus == that.codeStatus && Objects.equals(value, that.value) && Objects.equals(createdAt, that.createdAt) && Objects.equals(modifiedAt, that.modifiedAt);
+        return Objects.equals(id, that.id) && codeStatus == that.codeStatus && Objects.equals(payload, that.payload) && Objects.equals(value, that.value) && Objects.equals(createdAt, that.createdAt) && Objects.equals(modifiedAt, that.modifiedAt);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, codeStatus, value, createdAt, modifiedAt);
+        return Objects.hash(id, codeStatus, payload, value, createdAt, modifiedAt);
     }
 }
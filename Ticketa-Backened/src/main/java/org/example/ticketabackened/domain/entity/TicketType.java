@@ -2,6 +2,7 @@ package org.example.ticketabackened.domain.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 
@@ -15,11 +16,12 @@ import java.util.*;
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
+@DynamicUpdate
 public class TicketType {
 
     @Id
     @Column(name = "id", nullable = false, updatable = false)
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     @Column(name = "name", nullable = false)
@@ -34,6 +36,16 @@ public class TicketType {
     @Column(name = "available_tickets")
     private int availableTickets;
 
+    @Column(name = "sold_tickets", nullable = false)
+    private int soldTickets;
+
+    @Column(name = "inventory_shards", nullable = false)
+    @Builder.Default
+    private int inventoryShards = 1;
+
+    @Column(name = "flash_sale", nullable = false)
+    private boolean flashSale;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "event_id")
     private Event event;
@@ -41,6 +53,11 @@ public class TicketType {
     @OneToMany(mappedBy = "ticketType", cascade = CascadeType.ALL)
     private List<Ticket> tickets = new ArrayList<>();
 
+    @OneToMany(mappedBy = "ticketType", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("shardIndex")
+    @Builder.Default
+    private List<TicketTypeShard> shards = new ArrayList<>();
+
     @CreatedDate
     @Column(name = "created_At", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -54,11 +71,11 @@ public class TicketType {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         TicketType that = (TicketType) o;
-        return Double.compare(price, that.price) == 0 && availableTickets == that.availableTickets && Objects.equals(id, that.id) && Objects.equals(name, that.name) && Objects.equals(description, that.description) && Objects.equals(createdAt, that.createdAt) && Objects.equals(modifiedAt, that.modifiedAt);
+        return Double.compare(price, that.price) == 0 && availableTickets == that.availableTickets && soldTickets == that.soldTickets && inventoryShards == that.inventoryShards && flashSale == that.flashSale && Objects.equals(id, that.id) && Objects.equals(name, that.name) && Objects.equals(description, that.description) && Objects.equals(createdAt, that.createdAt) && Objects.equals(modifiedAt, that.modifiedAt);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, name, description, price, availableTickets, createdAt, modifiedAt);
+        return Objects.hash(id, name, description, price, availableTickets, soldTickets, inventoryShards, flashSale, createdAt, modifiedAt);
     }
 }
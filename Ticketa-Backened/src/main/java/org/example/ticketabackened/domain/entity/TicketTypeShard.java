@@ -0,0 +1,64 @@
+package org.example.ticketabackened.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+@Entity
+@Table(
+        name = "ticket_type_shard",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"ticket_type_id", "shard_index"})
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@DynamicUpdate
+public class TicketTypeShard {
+
+    @Id
+    @Column(name = "id", nullable = false, updatable = false)
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "shard_index", nullable = false)
+    private int shardIndex;
+
+    @Column(name = "capacity", nullable = false)
+    private int capacity;
+
+    @Column(name = "sold_tickets", nullable = false)
+    private int soldTickets;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "ticket_type_id", nullable = false)
+    private TicketType ticketType;
+
+    @CreatedDate
+    @Column(name = "created_At", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column(name = "modified_At", nullable = false)
+    private LocalDateTime modifiedAt;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        TicketTypeShard that = (TicketTypeShard) o;
+        return shardIndex == that.shardIndex && capacity == that.capacity && soldTickets == that.soldTickets && Objects.equals(id, that.id) && Objects.equals(createdAt, that.createdAt) && Objects.equals(modifiedAt, that.modifiedAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, shardIndex, capacity, soldTickets, createdAt, modifiedAt);
+    }
+}
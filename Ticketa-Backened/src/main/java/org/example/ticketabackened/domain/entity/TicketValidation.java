@@ -22,7 +22,7 @@ public class TicketValidation {
 
     @Id
     @Column(name = "id", nullable = false, updatable = false)
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     @Column(name = "validation_status", nullable = false)
@@ -37,6 +37,10 @@ public class TicketValidation {
     @JoinColumn(name = "ticket_id")
     private Ticket ticket;
 
+    // Device clock time for scans synced from offline scanners, null for live scans
+    @Column(name = "scanned_At")
+    private LocalDateTime scannedAt;
+
     @CreatedDate
     @Column(name = "created_At", nullable = false, updatable = false)
     private LocalDateTime createdAt;
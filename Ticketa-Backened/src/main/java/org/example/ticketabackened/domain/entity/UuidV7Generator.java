@@ -0,0 +1,68 @@
+package org.example.ticketabackened.domain.entity;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * UUIDv7 (RFC 9562): 48 bits of Unix milliseconds, then a 12-bit counter, then 62 random bits. New
+ * keys land at the right edge of the primary key index instead of on a random page. The counter keeps
+ * ids from one process strictly increasing within a millisecond, and borrows from the next millisecond
+ * if it overflows. The random bits come from SecureRandom, because ticket and QR ids are typed in or
+ * scanned at the door and must stay unguessable. Existing v4 ids are still valid; they just sort
+ * randomly among the new ones.
+ * <p>
+ * The default SecureRandom (NativePRNG) reads /dev/urandom under one monitor, which serialises every
+ * insert and pins virtual threads. Ids draw from a small pool of DRBG instances instead, seeded once
+ * up front and picked by thread id. A pool rather than one per thread, because with virtual threads
+ * every request is a new thread.
+ */
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+    private static final SecureRandom[] RANDOMS = drbgPool(Integer.highestOneBit(Runtime.getRuntime().availableProcessors()) * 2);
+
+    // Unix milliseconds << 12 | counter of the last id handed out
+    private static final AtomicLong LAST = new AtomicLong();
+
+    public static UUID next() {
+        long now = System.currentTimeMillis() << 12;
+        long stamp = LAST.updateAndGet(last -> Math.max(now, last + 1));
+
+        long mostSigBits = (stamp >>> 12) << 16 | 0x7000L | (stamp & 0xFFFL);
+        SecureRandom random = RANDOMS[(int) Thread.currentThread().threadId() & (RANDOMS.length - 1)];
+        long leastSigBits = random.nextLong() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    private static SecureRandom[] drbgPool(int size) {
+        SecureRandom[] pool = new SecureRandom[size];
+        for (int i = 0; i < size; i++) {
+            try {
+                pool[i] = SecureRandom.getInstance("DRBG");
+            } catch (NoSuchAlgorithmException ex) {
+                throw new IllegalStateException("DRBG SecureRandom not available", ex);
+            }
+            // Seeds it now rather than on the first insert
+            pool[i].nextLong();
+        }
+        return pool;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        return next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
@@ -0,0 +1,5 @@
+package org.example.ticketabackened.domain.enums;
+
+public enum EventSuggestionType {
+    EVENT, VENUE
+}
@@ -0,0 +1,15 @@
+package org.example.ticketabackened.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AdmissionTicket {
+    private UUID ticketId;
+    private String buyerName;
+}
@@ -0,0 +1,15 @@
+package org.example.ticketabackened.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class EventFacetCount {
+    private String venue;
+    private Integer year;
+    private Integer month;
+    private Long events;
+}
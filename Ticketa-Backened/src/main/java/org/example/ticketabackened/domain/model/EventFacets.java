@@ -0,0 +1,17 @@
+package org.example.ticketabackened.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class EventFacets {
+    private long totalEvents;
+    private Map<String, Long> venues = new LinkedHashMap<>();
+    private Map<String, Long> months = new LinkedHashMap<>();
+}
@@ -0,0 +1,25 @@
+package org.example.ticketabackened.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class EventFilter {
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to;
+    private String venue;
+    private Double minPrice;
+    private Double maxPrice;
+
+    public boolean isEmpty() {
+        return from == null && to == null && (venue == null || venue.isBlank()) && minPrice == null && maxPrice == null;
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.ticketabackened.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.ticketabackened.domain.enums.EventSuggestionType;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class EventSuggestion {
+    private String text;
+    private EventSuggestionType type;
+    // Set for event suggestions only
+    private UUID eventId;
+}
@@ -0,0 +1,19 @@
+package org.example.ticketabackened.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PublishedTicketType {
+    private UUID id;
+    private String name;
+    private String description;
+    private double price;
+    private int totalTickets;
+    private int remainingTickets;
+}
@@ -0,0 +1,18 @@
+package org.example.ticketabackened.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class QrCodeClaims {
+    private UUID ticketId;
+    private UUID eventId;
+    private UUID ticketTypeId;
+    private Instant expiresAt;
+}
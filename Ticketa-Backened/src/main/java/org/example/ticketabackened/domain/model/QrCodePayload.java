@@ -0,0 +1,20 @@
+package org.example.ticketabackened.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class QrCodePayload {
+    private UUID qrCodeId;
+    // Signed payload, null for codes that only encode their id
+    private String payload;
+
+    public String getContent() {
+        return payload != null ? payload : qrCodeId.toString();
+    }
+}
@@ -0,0 +1,12 @@
+package org.example.ticketabackened.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class QrCodesCreatedEvent {
+    private List<QrCodePayload> qrCodes;
+}
@@ -0,0 +1,15 @@
+package org.example.ticketabackened.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SerializedResponse {
+    private byte[] json;
+    private byte[] gzippedJson;
+    // Quoted strong validator, a hash of the JSON bytes
+    private String etag;
+}
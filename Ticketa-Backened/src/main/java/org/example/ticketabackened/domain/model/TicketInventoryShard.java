@@ -0,0 +1,15 @@
+package org.example.ticketabackened.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TicketInventoryShard {
+    private int shardIndex;
+    private int capacity;
+    private int soldTickets;
+    private int remainingTickets;
+}
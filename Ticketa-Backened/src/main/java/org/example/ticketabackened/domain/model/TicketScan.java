@@ -0,0 +1,19 @@
+package org.example.ticketabackened.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.ticketabackened.domain.enums.TicketValidationMethod;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TicketScan {
+    private UUID id;
+    private String code;
+    private TicketValidationMethod method;
+    private LocalDateTime scannedAt;
+}
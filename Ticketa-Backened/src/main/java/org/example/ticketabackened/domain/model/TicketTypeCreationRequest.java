@@ -12,4 +12,6 @@ public class TicketTypeCreationRequest {
     private String description;
     private double price;
     private int availableTickets;
+    private Integer inventoryShards;
+    private Boolean flashSale;
 }
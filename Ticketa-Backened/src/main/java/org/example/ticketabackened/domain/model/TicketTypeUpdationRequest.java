@@ -14,4 +14,6 @@ public class TicketTypeUpdationRequest {
     private String description;
     private double price;
     private int availableTickets;
+    private Integer inventoryShards;
+    private Boolean flashSale;
 }
@@ -0,0 +1,23 @@
+package org.example.ticketabackened.exceptionHandler;
+
+public class FlashSaleUnavailableException extends EventTicketException {
+    public FlashSaleUnavailableException() {
+    }
+
+    public FlashSaleUnavailableException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
+
+    public FlashSaleUnavailableException(Throwable cause) {
+        super(cause);
+    }
+
+    public FlashSaleUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public FlashSaleUnavailableException(String message) {
+        super(message);
+    }
+
+}
@@ -33,6 +33,38 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorDto, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(TicketPurchaseLimitException.class)
+    public ResponseEntity<ErrorDto> handleTicketPurchaseLimitException(TicketPurchaseLimitException ex) {
+        log.error("Caught TicketPurchaseLimitException", ex);
+        ErrorDto errorDto = new ErrorDto();
+        errorDto.setMessage("Ticket purchase limit exceeded: " + ex.getMessage());
+        return new ResponseEntity<>(errorDto, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorDto> handleInvalidCursorException(InvalidCursorException ex) {
+        log.error("Caught InvalidCursorException", ex);
+        ErrorDto errorDto = new ErrorDto();
+        errorDto.setMessage("Invalid page cursor");
+        return new ResponseEntity<>(errorDto, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(FlashSaleUnavailableException.class)
+    public ResponseEntity<ErrorDto> handleFlashSaleUnavailableException(FlashSaleUnavailableException ex) {
+        log.error("Caught FlashSaleUnavailableException", ex);
+        ErrorDto errorDto = new ErrorDto();
+        errorDto.setMessage("Ticket purchase could not be confirmed — please check your tickets and try again.");
+        return new ResponseEntity<>(errorDto, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @ExceptionHandler(TicketPurchaseBusyException.class)
+    public ResponseEntity<ErrorDto> handleTicketPurchaseBusyException(TicketPurchaseBusyException ex) {
+        log.error("Caught TicketPurchaseBusyException", ex);
+        ErrorDto errorDto = new ErrorDto();
+        errorDto.setMessage("Too many purchases in progress, please try again.");
+        return new ResponseEntity<>(errorDto, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     @ExceptionHandler(QrCodeNotFoundException.class)
     public ResponseEntity<ErrorDto> handleQrCodeNotFoundException(QrCodeNotFoundException ex) {
         log.error("Caught QrCodeNotFoundException", ex);
@@ -0,0 +1,23 @@
+package org.example.ticketabackened.exceptionHandler;
+
+public class TicketPurchaseBusyException extends EventTicketException {
+    public TicketPurchaseBusyException() {
+    }
+
+    public TicketPurchaseBusyException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
+
+    public TicketPurchaseBusyException(Throwable cause) {
+        super(cause);
+    }
+
+    public TicketPurchaseBusyException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public TicketPurchaseBusyException(String message) {
+        super(message);
+    }
+
+}
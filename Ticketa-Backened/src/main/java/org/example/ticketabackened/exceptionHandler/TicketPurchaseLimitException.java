@@ -0,0 +1,23 @@
+package org.example.ticketabackened.exceptionHandler;
+
+public class TicketPurchaseLimitException extends EventTicketException {
+    public TicketPurchaseLimitException() {
+    }
+
+    public TicketPurchaseLimitException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
+
+    public TicketPurchaseLimitException(Throwable cause) {
+        super(cause);
+    }
+
+    public TicketPurchaseLimitException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public TicketPurchaseLimitException(String message) {
+        super(message);
+    }
+
+}
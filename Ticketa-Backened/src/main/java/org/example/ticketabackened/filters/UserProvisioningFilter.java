@@ -4,9 +4,10 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
-import org.example.ticketabackened.domain.entity.User;
+import org.example.ticketabackened.config.CacheConfig;
 import org.example.ticketabackened.repositories.UserRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jwt.Jwt;
@@ -14,13 +15,20 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Objects;
 import java.util.UUID;
 
 @Component
-@RequiredArgsConstructor
 public class UserProvisioningFilter extends OncePerRequestFilter {
 
     private final UserRepository userRepo;
+    // Users are never deleted, so once provisioned an id can skip the database for good
+    private final Cache knownUsers;
+
+    public UserProvisioningFilter(UserRepository userRepo, CacheManager cacheManager) {
+        this.userRepo = userRepo;
+        this.knownUsers = Objects.requireNonNull(cacheManager.getCache(CacheConfig.KNOWN_USERS));
+    }
 
     @Override
     protected void doFilterInternal(
@@ -36,12 +44,9 @@ public class UserProvisioningFilter extends OncePerRequestFilter {
 
             UUID keycloakId = UUID.fromString(jwt.getSubject());
 
-            if (!userRepo.existsById(keycloakId)) {
-                User user = new User();
-                user.setId(keycloakId);
-                user.setUsername(jwt.getClaimAsString("preferred_username"));
-                user.setEmail(jwt.getClaimAsString("email"));
-                userRepo.save(user);
+            if (knownUsers.get(keycloakId) == null) {
+                userRepo.insertIfAbsent(keycloakId, jwt.getClaimAsString("preferred_username"), jwt.getClaimAsString("email"));
+                knownUsers.put(keycloakId, Boolean.TRUE);
             }
         }
         filterChain.doFilter(request, response);
@@ -2,12 +2,17 @@ package org.example.ticketabackened.mappers;
 
 import org.example.ticketabackened.domain.dto.*;
 import org.example.ticketabackened.domain.entity.Event;
+import org.example.ticketabackened.domain.entity.PublishedEventView;
 import org.example.ticketabackened.domain.entity.TicketType;
 import org.example.ticketabackened.domain.model.EventCreationRequest;
+import org.example.ticketabackened.domain.model.EventFacets;
+import org.example.ticketabackened.domain.model.EventSuggestion;
 import org.example.ticketabackened.domain.model.EventUpdationRequest;
+import org.example.ticketabackened.domain.model.PublishedTicketType;
 import org.example.ticketabackened.domain.model.TicketTypeCreationRequest;
 import org.example.ticketabackened.domain.model.TicketTypeUpdationRequest;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.ReportingPolicy;
 
 @Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
@@ -33,10 +38,19 @@ public interface EventMapper {
 
     EventUpdationResponseDto toEventUpdationResponseDto(Event event);
 
-    getPublishedEventsResponseDto toPublishedEventsResponseDto(Event event);
+    getPublishedEventsResponseDto toPublishedEventsResponseDto(PublishedEventView event);
 
-    getPublishedEventTicketTypeResponseDto toPublishedEventTicketTypeResponseDto(TicketType ticketType);
+    getPublishedEventFacetsResponseDto toPublishedEventFacetsResponseDto(EventFacets facets);
 
-    getPublishedEventDetailsResponseDto toPublishedEventDetailsResponseDto(Event event);
+    getEventSuggestionResponseDto toEventSuggestionResponseDto(EventSuggestion suggestion);
+
+    getPublishedEventTicketTypeResponseDto toPublishedEventTicketTypeResponseDto(PublishedTicketType ticketType);
+
+    getPublishedEventDetailsResponseDto toPublishedEventDetailsResponseDto(PublishedEventView event);
+
+    getTicketTypeAvailabilityResponseDto toTicketTypeAvailabilityResponseDto(PublishedTicketType ticketType);
+
+    @Mapping(target = "eventId", source = "id")
+    getTicketAvailabilityResponseDto toTicketAvailabilityResponseDto(PublishedEventView event);
 
 }
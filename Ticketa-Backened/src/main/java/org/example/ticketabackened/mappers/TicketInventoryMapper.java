@@ -0,0 +1,16 @@
+package org.example.ticketabackened.mappers;
+
+import org.example.ticketabackened.domain.dto.getTicketInventoryResponseDto;
+import org.example.ticketabackened.domain.dto.getTicketInventoryShardResponseDto;
+import org.example.ticketabackened.domain.model.TicketInventory;
+import org.example.ticketabackened.domain.model.TicketInventoryShard;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface TicketInventoryMapper {
+
+    getTicketInventoryShardResponseDto toDto(TicketInventoryShard shard);
+
+    getTicketInventoryResponseDto toDto(TicketInventory inventory);
+}
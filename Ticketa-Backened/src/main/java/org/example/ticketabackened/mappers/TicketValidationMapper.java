@@ -1,15 +1,23 @@
 package org.example.ticketabackened.mappers;
 
+import org.example.ticketabackened.domain.dto.TicketScanRequestDto;
 import org.example.ticketabackened.domain.dto.TicketValidationResponseDto;
 import org.example.ticketabackened.domain.entity.TicketValidation;
+import org.example.ticketabackened.domain.model.TicketScan;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.ReportingPolicy;
 
+import java.util.List;
+
 @Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
 public interface TicketValidationMapper {
 
     @Mapping(target = "ticketId", source = "ticket.id")
     @Mapping(target = "buyerName", source = "ticket.ticketBuyer.username")
     TicketValidationResponseDto toTicketValidationResponseDto(TicketValidation ticketValidation);
+
+    List<TicketValidationResponseDto> toTicketValidationResponseDtos(List<TicketValidation> ticketValidations);
+
+    List<TicketScan> fromDto(List<TicketScanRequestDto> dtos);
 }
@@ -3,11 +3,14 @@ import org.example.ticketabackened.domain.entity.Event;
 import org.example.ticketabackened.domain.enums.EventStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -15,26 +18,22 @@ import java.util.UUID;
 public interface EventRepository extends JpaRepository<Event, UUID> {
     Page<Event> findByOrganizerId(UUID organiserId, Pageable pageable);
 
-    Optional<Event> findEventByIdAndOrganizerId(UUID eventId, UUID organizerId);
+    List<Event> findByOrganizerIdOrderByStartDateTimeAscIdAsc(UUID organiserId, Pageable pageable);
+
+    @Query("""
+            SELECT e FROM Event e
+            WHERE e.organizer.id = :organiserId
+              AND (e.startDateTime > :startDateTime OR (e.startDateTime = :startDateTime AND e.id > :id))
+            ORDER BY e.startDateTime, e.id
+            """)
+    List<Event> findByOrganizerIdAfter(@Param("organiserId") UUID organiserId, @Param("startDateTime") LocalDateTime startDateTime,
+                                       @Param("id") UUID id, Pageable pageable);
 
-    Page<Event> findEventByStatus(EventStatus status, Pageable pageable);
+    Optional<Event> findEventByIdAndOrganizerId(UUID eventId, UUID organizerId);
 
-    @Query(
-            value = """
-                    SELECT * FROM events
-                    WHERE event_status = 'PUBLISHED'
-                      AND to_tsvector('english', COALESCE(event_Name, '') || ' ' || COALESCE(venue, ''))
-                      @@ plainto_tsquery('english', :query)
-                    """,
-            countQuery = """
-                    SELECT count(*) FROM events
-                    WHERE event_status = 'PUBLISHED'
-                      AND to_tsvector('english', COALESCE(event_Name, '') || ' ' || COALESCE(venue, ''))
-                      @@ plainto_tsquery('english', :query)
-                    """,
-            nativeQuery = true
-    )
-    Page<Event> searchEvents(@Param("query") String query, Pageable pageable);
+    @EntityGraph(attributePaths = "ticketTypes")
+    List<Event> findByStatus(EventStatus status);
 
-    Optional<Event> findEventByIdAndStatus(UUID eventId, EventStatus status);
+    @Query("SELECT e.id FROM Event e WHERE e.status = :status AND e.startDateTime <= :until AND e.endDateTime >= :from")
+    List<UUID> findIdsRunningBetween(@Param("status") EventStatus status, @Param("from") LocalDateTime from, @Param("until") LocalDateTime until);
 }
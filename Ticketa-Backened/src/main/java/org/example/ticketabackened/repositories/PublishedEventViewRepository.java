@@ -0,0 +1,136 @@
+package org.example.ticketabackened.repositories;
+
+import jakarta.persistence.LockModeType;
+import org.example.ticketabackened.domain.entity.PublishedEventView;
+import org.example.ticketabackened.domain.model.EventFacetCount;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Repository
+public interface PublishedEventViewRepository extends JpaRepository<PublishedEventView, UUID> {
+
+    @Query("SELECT v FROM PublishedEventView v WHERE v.id = :id")
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<PublishedEventView> findByIdWithLock(@Param("id") UUID id);
+
+    // Every published event in one statement, the same rows PublishedEventProjectionServiceImpl writes one at a time
+    @Modifying
+    @Query(value = """
+            INSERT INTO published_event_view (id, event_name, start_date_time, end_date_time, venue, sales_start_date_time,
+                                              sales_end_date_time, min_price, max_price, remaining_tickets, ticket_types,
+                                              refreshed_at)
+            SELECT e.id, e.event_name, e.start_date_time, e.end_date_time, e.venue, e.sales_start_date_time,
+                   e.sales_end_date_time, min(tt.price), max(tt.price), coalesce(sum(tt.remaining), 0),
+                   coalesce(jsonb_agg(jsonb_build_object('id', tt.id, 'name', tt.name, 'description', tt.description,
+                                                         'price', tt.price, 'totalTickets', tt.available_tickets,
+                                                         'remainingTickets', tt.remaining) ORDER BY tt.id)
+                                FILTER (WHERE tt.id IS NOT NULL), '[]'::jsonb),
+                   localtimestamp
+            FROM events e
+            LEFT JOIN (
+                SELECT t.id, t.event_id, t.name, t.description, t.price, t.available_tickets,
+                       CASE WHEN t.inventory_shards > 1
+                            THEN (SELECT coalesce(sum(greatest(0, s.capacity - s.sold_tickets)), 0)
+                                  FROM ticket_type_shard s WHERE s.ticket_type_id = t.id)
+                            ELSE greatest(0, t.available_tickets - t.sold_tickets)
+                       END AS remaining
+                FROM ticket_type t
+            ) tt ON tt.event_id = e.id
+            WHERE e.event_status = 'PUBLISHED'
+            GROUP BY e.id
+            ON CONFLICT (id) DO UPDATE SET
+                event_name = excluded.event_name, start_date_time = excluded.start_date_time,
+                end_date_time = excluded.end_date_time, venue = excluded.venue,
+                sales_start_date_time = excluded.sales_start_date_time, sales_end_date_time = excluded.sales_end_date_time,
+                min_price = excluded.min_price, max_price = excluded.max_price,
+                remaining_tickets = excluded.remaining_tickets, ticket_types = excluded.ticket_types,
+                refreshed_at = excluded.refreshed_at
+            """, nativeQuery = true)
+    int projectAllPublished();
+
+    @Modifying
+    @Query(value = """
+            DELETE FROM published_event_view v
+            WHERE NOT EXISTS (SELECT 1 FROM events e WHERE e.id = v.id AND e.event_status = 'PUBLISHED')
+            """, nativeQuery = true)
+    int deleteUnpublished();
+
+    List<PublishedEventView> findAllByOrderByStartDateTimeAscIdAsc(Pageable pageable);
+
+    @Query("""
+            SELECT v FROM PublishedEventView v
+            WHERE v.startDateTime > :startDateTime OR (v.startDateTime = :startDateTime AND v.id > :id)
+            ORDER BY v.startDateTime, v.id
+            """)
+    List<PublishedEventView> findAfter(@Param("startDateTime") LocalDateTime startDateTime, @Param("id") UUID id,
+                                       Pageable pageable);
+
+    // Null filters are ignored; a price range matches events with a ticket type priced inside it. The
+    // min/max price overlap can use the index and narrows the rows the ticket type check has to unpack.
+    // The casts type the null checks; Postgres rejects a bare untyped "? IS NULL".
+    @Query("""
+            SELECT v FROM PublishedEventView v
+            WHERE (cast(:from AS LocalDateTime) IS NULL OR v.startDateTime >= :from)
+              AND (cast(:to AS LocalDateTime) IS NULL OR v.startDateTime < :to)
+              AND (:venue IS NULL OR lower(v.venue) = lower(:venue))
+              AND (:minPrice IS NULL OR v.maxPrice >= :minPrice)
+              AND (:maxPrice IS NULL OR v.minPrice <= :maxPrice)
+              AND (:minPrice IS NULL AND :maxPrice IS NULL OR cast(sql('EXISTS (SELECT 1 FROM jsonb_array_elements(?) t
+                      WHERE (t->>''price'')::float8 BETWEEN coalesce(?, ''-Infinity'') AND coalesce(?, ''Infinity''))',
+                  v.ticketTypes, cast(:minPrice AS Double), cast(:maxPrice AS Double)) AS Boolean))
+            """)
+    Page<PublishedEventView> findFiltered(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                          @Param("venue") String venue, @Param("minPrice") Double minPrice,
+                                          @Param("maxPrice") Double maxPrice, Pageable pageable);
+
+    // One row per (venue, month) under the same filters, folded into per-venue and per-month counts
+    @Query("""
+            SELECT new org.example.ticketabackened.domain.model.EventFacetCount(
+                v.venue, year(v.startDateTime), month(v.startDateTime), count(v))
+            FROM PublishedEventView v
+            WHERE (cast(:from AS LocalDateTime) IS NULL OR v.startDateTime >= :from)
+              AND (cast(:to AS LocalDateTime) IS NULL OR v.startDateTime < :to)
+              AND (:venue IS NULL OR lower(v.venue) = lower(:venue))
+              AND (:minPrice IS NULL OR v.maxPrice >= :minPrice)
+              AND (:maxPrice IS NULL OR v.minPrice <= :maxPrice)
+              AND (:minPrice IS NULL AND :maxPrice IS NULL OR cast(sql('EXISTS (SELECT 1 FROM jsonb_array_elements(?) t
+                      WHERE (t->>''price'')::float8 BETWEEN coalesce(?, ''-Infinity'') AND coalesce(?, ''Infinity''))',
+                  v.ticketTypes, cast(:minPrice AS Double), cast(:maxPrice AS Double)) AS Boolean))
+            GROUP BY v.venue, year(v.startDateTime), month(v.startDateTime)
+            """)
+    List<EventFacetCount> countFacets(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                      @Param("venue") String venue, @Param("minPrice") Double minPrice,
+                                      @Param("maxPrice") Double maxPrice);
+
+    // query is a to_tsquery expression, matched against the generated search_vector column (schema.sql).
+    // A slice reads one row past the page to tell whether there is a next one, so typing a search never
+    // counts every match.
+    @Query(value = """
+            SELECT v.* FROM published_event_view v, to_tsquery('english', :query) q
+            WHERE v.search_vector @@ q
+            ORDER BY ts_rank(v.search_vector, q) DESC, v.start_date_time
+            """, nativeQuery = true)
+    Slice<PublishedEventView> search(@Param("query") String query, Pageable pageable);
+
+    // Every word of the user's text as a prefix match, empty when there are no words
+    static String toPrefixQuery(String text) {
+        return Arrays.stream(text.split("[^\\p{L}\\p{N}]+"))
+                .filter(token -> !token.isEmpty())
+                .map(token -> token + ":*")
+                .collect(Collectors.joining(" & "));
+    }
+}
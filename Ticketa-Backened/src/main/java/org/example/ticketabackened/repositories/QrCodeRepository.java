@@ -1,12 +1,25 @@
 package org.example.ticketabackened.repositories;
 
+import jakarta.persistence.QueryHint;
 import org.example.ticketabackened.domain.entity.TicketQRCode;
 import org.example.ticketabackened.domain.enums.QrCodeStatus;
+import org.example.ticketabackened.domain.model.QrCodePayload;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface QrCodeRepository extends JpaRepository<TicketQRCode, UUID> {
@@ -14,4 +27,26 @@ public interface QrCodeRepository extends JpaRepository<TicketQRCode, UUID> {
     Optional<TicketQRCode> findByTicketIdAndTicket_TicketBuyerId(UUID ticketId, UUID ticketBuyerId);
 
     Optional<TicketQRCode> findByIdAndCodeStatus(UUID qrCodeId, QrCodeStatus qrCodeStatus);
+
+    List<TicketQRCode> findByIdInAndCodeStatus(Collection<UUID> qrCodeIds, QrCodeStatus qrCodeStatus);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT q.id FROM TicketQRCode q WHERE q.ticket.ticketType.event.id = :eventId AND q.codeStatus = :status AND q.modifiedAt > :since ORDER BY q.id")
+    Stream<UUID> streamIdsForSnapshot(@Param("eventId") UUID eventId, @Param("status") QrCodeStatus status,
+                                      @Param("since") LocalDateTime since);
+
+    @Query("SELECT count(q) FROM TicketQRCode q WHERE q.ticket.ticketType.event.id = :eventId AND q.codeStatus = :status AND q.modifiedAt > :since")
+    long countIdsForSnapshot(@Param("eventId") UUID eventId, @Param("status") QrCodeStatus status,
+                             @Param("since") LocalDateTime since);
+
+    @Query("""
+            SELECT new org.example.ticketabackened.domain.model.QrCodePayload(q.id, q.payload)
+            FROM TicketQRCode q WHERE q.value IS NULL AND q.createdAt < :before ORDER BY q.createdAt
+            """)
+    List<QrCodePayload> findPending(@Param("before") LocalDateTime before, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE TicketQRCode q SET q.value = :value WHERE q.id = :id AND q.value IS NULL")
+    int updatePendingValue(@Param("id") UUID id, @Param("value") String value);
 }
@@ -0,0 +1,98 @@
+package org.example.ticketabackened.repositories;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.example.ticketabackened.domain.entity.PublishedEventView;
+import org.example.ticketabackened.domain.model.PublishedTicketType;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Non-blocking reads of published_event_view over R2DBC, for the reactive catalogue. Rows come back as
+ * detached {@link PublishedEventView}s so the published mappings in EventMapper apply unchanged.
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ticketa.catalogue.reactive.enabled", havingValue = "true")
+public class ReactivePublishedEventViewRepository {
+
+    private static final String COLUMNS = """
+            v.id, v.event_name, v.start_date_time, v.end_date_time, v.venue, v.sales_start_date_time,
+            v.sales_end_date_time, v.min_price, v.max_price, v.remaining_tickets, v.ticket_types::text AS ticket_types,
+            v.refreshed_at
+            """;
+
+    private static final TypeReference<List<PublishedTicketType>> TICKET_TYPES = new TypeReference<>() {
+    };
+
+    private final DatabaseClient catalogueDatabaseClient;
+    private final ObjectMapper objectMapper;
+
+    public Flux<PublishedEventView> findAll(long offset, int limit) {
+        return catalogueDatabaseClient.sql("SELECT " + COLUMNS + """
+                        FROM published_event_view v
+                        ORDER BY v.start_date_time, v.id
+                        OFFSET :offset LIMIT :limit
+                        """)
+                .bind("offset", offset)
+                .bind("limit", limit)
+                .map(this::toView)
+                .all();
+    }
+
+    // query is a to_tsquery expression, matched against the generated search_vector column (schema.sql)
+    public Flux<PublishedEventView> search(String query, long offset, int limit) {
+        return catalogueDatabaseClient.sql("SELECT " + COLUMNS + """
+                        FROM published_event_view v, to_tsquery('english', :query) q
+                        WHERE v.search_vector @@ q
+                        ORDER BY ts_rank(v.search_vector, q) DESC, v.start_date_time
+                        OFFSET :offset LIMIT :limit
+                        """)
+                .bind("query", query)
+                .bind("offset", offset)
+                .bind("limit", limit)
+                .map(this::toView)
+                .all();
+    }
+
+    public Mono<PublishedEventView> findById(UUID id) {
+        return catalogueDatabaseClient.sql("SELECT " + COLUMNS + "FROM published_event_view v WHERE v.id = :id")
+                .bind("id", id)
+                .map(this::toView)
+                .one();
+    }
+
+    private PublishedEventView toView(Readable row) {
+        return new PublishedEventView(
+                row.get("id", UUID.class),
+                row.get("event_name", String.class),
+                row.get("start_date_time", LocalDateTime.class),
+                row.get("end_date_time", LocalDateTime.class),
+                row.get("venue", String.class),
+                row.get("sales_start_date_time", LocalDateTime.class),
+                row.get("sales_end_date_time", LocalDateTime.class),
+                row.get("min_price", Double.class),
+                row.get("max_price", Double.class),
+                row.get("remaining_tickets", Integer.class),
+                readTicketTypes(row.get("ticket_types", String.class)),
+                row.get("refreshed_at", LocalDateTime.class));
+    }
+
+    private List<PublishedTicketType> readTicketTypes(String json) {
+        try {
+            return json == null ? List.of() : objectMapper.readValue(json, TICKET_TYPES);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unreadable ticket_types in published_event_view", ex);
+        }
+    }
+}
@@ -1,19 +1,65 @@
 package org.example.ticketabackened.repositories;
 
+import jakarta.persistence.QueryHint;
 import org.example.ticketabackened.domain.entity.Ticket;
+import org.example.ticketabackened.domain.enums.TicketStatus;
+import org.example.ticketabackened.domain.model.AdmissionTicket;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface TicketRepository extends JpaRepository<Ticket, UUID> {
     int countByTicketTypeId(UUID ticketTypeId);
 
+    @EntityGraph(attributePaths = {"ticketType", "ticketType.event"})
     Page<Ticket> findByTicketBuyerId(UUID ticketBuyerId, Pageable pageable);
 
+    @EntityGraph(attributePaths = {"ticketType", "ticketType.event"})
+    List<Ticket> findByTicketBuyerIdOrderByCreatedAtDescIdDesc(UUID ticketBuyerId, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"ticketType", "ticketType.event"})
+    @Query("""
+            SELECT t FROM Ticket t
+            WHERE t.ticketBuyer.id = :ticketBuyerId
+              AND (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id))
+            ORDER BY t.createdAt DESC, t.id DESC
+            """)
+    List<Ticket> findByTicketBuyerIdBefore(@Param("ticketBuyerId") UUID ticketBuyerId, @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") UUID id, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"ticketType", "ticketType.event"})
     Optional<Ticket> findByIdAndTicketBuyerId(UUID ticketId, UUID ticketBuyerId);
+
+    @EntityGraph(attributePaths = {"ticketBuyer", "ticketType.event"})
+    List<Ticket> findByIdIn(Collection<UUID> ticketIds);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT t.id FROM Ticket t WHERE t.ticketType.event.id = :eventId AND t.status IN :statuses AND t.modifiedAt > :since ORDER BY t.id")
+    Stream<UUID> streamIdsForSnapshot(@Param("eventId") UUID eventId, @Param("statuses") Collection<TicketStatus> statuses,
+                                      @Param("since") LocalDateTime since);
+
+    @Query("SELECT count(t) FROM Ticket t WHERE t.ticketType.event.id = :eventId AND t.status IN :statuses AND t.modifiedAt > :since")
+    long countIdsForSnapshot(@Param("eventId") UUID eventId, @Param("statuses") Collection<TicketStatus> statuses,
+                             @Param("since") LocalDateTime since);
+
+    @Query("""
+            SELECT new org.example.ticketabackened.domain.model.AdmissionTicket(t.id, b.username)
+            FROM Ticket t JOIN t.ticketBuyer b
+            WHERE t.ticketType.event.id = :eventId
+            """)
+    List<AdmissionTicket> findAdmissionTicketsByEventId(@Param("eventId") UUID eventId);
 }
@@ -4,10 +4,13 @@ import jakarta.persistence.LockModeType;
 import org.example.ticketabackened.domain.entity.TicketType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -18,4 +21,27 @@ public interface TicketTypeRepository extends JpaRepository<TicketType, UUID> {
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     Optional<TicketType> findByIdWithLock(@Param("id") UUID id);
 
+    Optional<TicketType> findByIdAndEvent_IdAndEvent_OrganizerId(UUID id, UUID eventId, UUID organizerId);
+
+    @Query(value = "SELECT sold_tickets FROM ticket_type WHERE id = :id FOR UPDATE", nativeQuery = true)
+    int findSoldTicketsWithLock(@Param("id") UUID id);
+
+    @Modifying
+    @Query("""
+            UPDATE TicketType tt SET tt.soldTickets = tt.soldTickets + :quantity
+            WHERE tt.id = :id AND tt.soldTickets + :quantity <= tt.availableTickets
+            """)
+    int addSoldTickets(@Param("id") UUID id, @Param("quantity") int quantity);
+
+    @Query(value = "SELECT available_tickets - sold_tickets FROM ticket_type WHERE id = :id FOR UPDATE", nativeQuery = true)
+    Integer findRemainingTicketsWithLock(@Param("id") UUID id);
+
+    @Query("SELECT tt.availableTickets - tt.soldTickets FROM TicketType tt WHERE tt.id = :id")
+    Integer findRemainingTickets(@Param("id") UUID id);
+
+    List<TicketType> findByFlashSaleTrue();
+
+    @Query("SELECT DISTINCT tt.event.id FROM TicketType tt WHERE tt.id IN :ids")
+    List<UUID> findEventIdsByIdIn(@Param("ids") Collection<UUID> ids);
+
 }
@@ -0,0 +1,57 @@
+package org.example.ticketabackened.repositories;
+
+import jakarta.persistence.LockModeType;
+import org.example.ticketabackened.domain.entity.TicketTypeShard;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TicketTypeShardRepository extends JpaRepository<TicketTypeShard, UUID> {
+
+    List<TicketTypeShard> findByTicketTypeIdOrderByShardIndex(UUID ticketTypeId);
+
+    @Query("SELECT s FROM TicketTypeShard s WHERE s.ticketType.id = :ticketTypeId ORDER BY s.shardIndex")
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<TicketTypeShard> findByTicketTypeIdWithLock(@Param("ticketTypeId") UUID ticketTypeId);
+
+    @Query("SELECT COALESCE(SUM(s.capacity - s.soldTickets), 0) FROM TicketTypeShard s WHERE s.ticketType.id = :ticketTypeId")
+    int sumRemainingTickets(@Param("ticketTypeId") UUID ticketTypeId);
+
+    @Modifying
+    @Query("""
+            UPDATE TicketTypeShard s SET s.soldTickets = s.soldTickets + :quantity
+            WHERE s.ticketType.id = :ticketTypeId AND s.shardIndex = :shardIndex
+              AND s.soldTickets + :quantity <= s.capacity
+            """)
+    int addSoldTickets(
+            @Param("ticketTypeId") UUID ticketTypeId,
+            @Param("shardIndex") int shardIndex,
+            @Param("quantity") int quantity);
+
+    // Spreads quantity over the shards in index order, filling each before the next, or takes nothing when
+    // they hold fewer in total. The shard rows are locked in index order, so concurrent spills can't deadlock.
+    @Modifying
+    @Query(value = """
+            WITH locked AS (
+                SELECT id, shard_index, capacity - sold_tickets AS free FROM ticket_type_shard
+                WHERE ticket_type_id = :ticketTypeId
+                ORDER BY shard_index
+                FOR UPDATE
+            ), taken AS (
+                SELECT id, LEAST(free, :quantity - (SUM(free) OVER (ORDER BY shard_index) - free)) AS quantity
+                FROM locked
+            )
+            UPDATE ticket_type_shard s SET sold_tickets = s.sold_tickets + taken.quantity
+            FROM taken
+            WHERE s.id = taken.id AND taken.quantity > 0
+              AND (SELECT SUM(free) FROM locked) >= :quantity
+            """, nativeQuery = true)
+    int addSoldTicketsAcrossShards(@Param("ticketTypeId") UUID ticketTypeId, @Param("quantity") int quantity);
+}
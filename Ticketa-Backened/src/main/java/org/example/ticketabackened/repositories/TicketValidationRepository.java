@@ -1,11 +1,90 @@
 package org.example.ticketabackened.repositories;
 
+import jakarta.persistence.QueryHint;
 import org.example.ticketabackened.domain.entity.TicketValidation;
+import org.example.ticketabackened.domain.entity.UuidV7Generator;
+import org.example.ticketabackened.domain.enums.TicketValidationStatus;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface TicketValidationRepository extends JpaRepository<TicketValidation, UUID> {
+    /**
+     * Inserts a VALID row unless the ticket already has one, decided by the partial unique index on
+     * (ticket_id) WHERE validation_status = 'VALID'. Returns false when another scan got there first.
+     */
+    default boolean saveIfFirstValid(TicketValidation validation) {
+        LocalDateTime now = LocalDateTime.now();
+        validation.setId(UuidV7Generator.next());
+        validation.setValidationStatus(TicketValidationStatus.VALID);
+        validation.setCreatedAt(now);
+        validation.setModifiedAt(now);
+        if (insertIfFirstValid(validation.getId(), validation.getTicket().getId(),
+                validation.getValidationMethod().name(), validation.getScannedAt(), now) == 1) {
+            return true;
+        }
+        // Not inserted, so leave it new for the caller to save as an INVALID row
+        validation.setId(null);
+        return false;
+    }
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO ticket_validation (id, ticket_id, validation_status, validation_method, scanned_at, created_at, modified_at)
+            VALUES (:id, :ticketId, 'VALID', :method, :scannedAt, :now, :now)
+            ON CONFLICT (ticket_id) WHERE validation_status = 'VALID' DO NOTHING
+            """, nativeQuery = true)
+    int insertIfFirstValid(@Param("id") UUID id, @Param("ticketId") UUID ticketId, @Param("method") String method,
+                           @Param("scannedAt") LocalDateTime scannedAt, @Param("now") LocalDateTime now);
+
+    List<TicketValidation> findByTicketIdInAndValidationStatus(Collection<UUID> ticketIds, TicketValidationStatus validationStatus);
+
+    @Modifying
+    @Query("UPDATE TicketValidation v SET v.validationStatus = :status, v.modifiedAt = :now WHERE v.id IN :ids")
+    int updateValidationStatus(@Param("ids") Collection<UUID> ids, @Param("status") TicketValidationStatus status,
+                               @Param("now") LocalDateTime now);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT DISTINCT v.ticket.id FROM TicketValidation v WHERE v.ticket.ticketType.event.id = :eventId AND v.validationStatus = :status AND v.modifiedAt > :since ORDER BY v.ticket.id")
+    Stream<UUID> streamTicketIdsForSnapshot(@Param("eventId") UUID eventId, @Param("status") TicketValidationStatus status,
+                                            @Param("since") LocalDateTime since);
+
+    @Query("SELECT count(DISTINCT v.ticket.id) FROM TicketValidation v WHERE v.ticket.ticketType.event.id = :eventId AND v.validationStatus = :status AND v.modifiedAt > :since")
+    long countTicketIdsForSnapshot(@Param("eventId") UUID eventId, @Param("status") TicketValidationStatus status,
+                                   @Param("since") LocalDateTime since);
+
+    // Tickets whose admission was demoted since the given time (modified after creation) and that hold no admission now
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+            SELECT DISTINCT v.ticket.id FROM TicketValidation v
+            WHERE v.ticket.ticketType.event.id = :eventId AND v.validationStatus <> :admitted
+              AND v.modifiedAt > :since AND v.modifiedAt > v.createdAt
+              AND NOT EXISTS (SELECT 1 FROM TicketValidation a WHERE a.ticket = v.ticket AND a.validationStatus = :admitted)
+            ORDER BY v.ticket.id
+            """)
+    Stream<UUID> streamDemotedTicketIdsForSnapshot(@Param("eventId") UUID eventId, @Param("admitted") TicketValidationStatus admitted,
+                                                   @Param("since") LocalDateTime since);
+
+    @Query("""
+            SELECT count(DISTINCT v.ticket.id) FROM TicketValidation v
+            WHERE v.ticket.ticketType.event.id = :eventId AND v.validationStatus <> :admitted
+              AND v.modifiedAt > :since AND v.modifiedAt > v.createdAt
+              AND NOT EXISTS (SELECT 1 FROM TicketValidation a WHERE a.ticket = v.ticket AND a.validationStatus = :admitted)
+            """)
+    long countDemotedTicketIdsForSnapshot(@Param("eventId") UUID eventId, @Param("admitted") TicketValidationStatus admitted,
+                                          @Param("since") LocalDateTime since);
+
+    @Query("SELECT v.ticket.id FROM TicketValidation v WHERE v.ticket.ticketType.event.id = :eventId AND v.validationStatus = :status")
+    List<UUID> findTicketIdsByEventIdAndStatus(@Param("eventId") UUID eventId, @Param("status") TicketValidationStatus status);
 }
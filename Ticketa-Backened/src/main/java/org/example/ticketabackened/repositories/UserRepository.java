@@ -2,11 +2,24 @@ package org.example.ticketabackened.repositories;
 
 import org.example.ticketabackened.domain.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, UUID> {
 
+    // Concurrent first requests from the same user both succeed, one of them inserts
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT INTO users (id, name, email, created_at, modified_at)
+            VALUES (:id, :username, :email, now(), now())
+            ON CONFLICT (id) DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("id") UUID id, @Param("username") String username, @Param("email") String email);
 }
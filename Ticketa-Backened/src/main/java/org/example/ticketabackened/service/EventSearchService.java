@@ -0,0 +1,21 @@
+package org.example.ticketabackened.service;
+
+import org.example.ticketabackened.domain.entity.Event;
+import org.example.ticketabackened.domain.entity.PublishedEventView;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.UUID;
+
+/**
+ * Search backend for published events, picked with ticketa.search.backend (postgres or memory).
+ * index and remove take effect once the surrounding transaction commits.
+ */
+public interface EventSearchService {
+
+    Slice<PublishedEventView> searchPublishedEvents(String query, Pageable pageable);
+
+    void index(Event event);
+
+    void remove(UUID eventId);
+}
@@ -1,6 +1,7 @@
 package org.example.ticketabackened.service;
 
 import org.example.ticketabackened.domain.entity.Event;
+import org.example.ticketabackened.domain.model.CursorPage;
 import org.example.ticketabackened.domain.model.EventCreationRequest;
 import org.example.ticketabackened.domain.model.EventUpdationRequest;
 import org.springframework.data.domain.Page;
@@ -14,16 +15,13 @@ public interface EventService {
 
     Page<Event> getEventsForOrganiser(UUID organiserId, Pageable pageable);
 
+    CursorPage<Event> getEventsForOrganiser(UUID organiserId, String cursor, int size);
+
     Optional<Event> getEventForOrganiser(UUID eventId, UUID organiserId);
 
     Event updateEventForOrganiser(UUID eventId, UUID organiserId, EventUpdationRequest event);
 
     void deleteEventForOrganiser(UUID eventId, UUID organiserId);
 
-    Page<Event> getPublishedEvents(Pageable pageable);
-
-    Page<Event> searchPublishedEvents(String query, Pageable pageable);
-
-    Optional<Event> getPublishedEvent(UUID eventId);
 
 }
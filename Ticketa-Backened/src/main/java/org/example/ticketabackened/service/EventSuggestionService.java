@@ -0,0 +1,16 @@
+package org.example.ticketabackened.service;
+
+import org.example.ticketabackened.domain.entity.Event;
+import org.example.ticketabackened.domain.model.EventSuggestion;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface EventSuggestionService {
+
+    List<EventSuggestion> suggest(String prefix, int limit);
+
+    void index(Event event);
+
+    void remove(UUID eventId);
+}
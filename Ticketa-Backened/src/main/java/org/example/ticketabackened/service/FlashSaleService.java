@@ -0,0 +1,15 @@
+package org.example.ticketabackened.service;
+
+import org.example.ticketabackened.domain.entity.Ticket;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface FlashSaleService {
+
+    boolean isFlashSale(UUID ticketTypeId);
+
+    List<Ticket> purchaseTickets(UUID userId, UUID ticketTypeId, int quantity);
+
+    void evict(UUID ticketTypeId);
+}
@@ -0,0 +1,18 @@
+package org.example.ticketabackened.service;
+
+import org.example.ticketabackened.domain.entity.Event;
+
+import java.util.UUID;
+
+/**
+ * Keeps the published_event_view read model in step with the event write model. project and remove
+ * join the caller's transaction; inventory changes are picked up shortly after the purchase commits.
+ */
+public interface PublishedEventProjectionService {
+
+    void project(Event event);
+
+    void remove(UUID eventId);
+
+    void inventoryChanged(UUID ticketTypeId);
+}
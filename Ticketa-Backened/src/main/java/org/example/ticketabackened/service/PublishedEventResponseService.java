@@ -0,0 +1,15 @@
+package org.example.ticketabackened.service;
+
+import org.example.ticketabackened.domain.model.SerializedResponse;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Published event details kept as ready-to-send JSON. Entries are regenerated only after
+ * EventServiceImpl evicts them because the event or its ticket types changed.
+ */
+public interface PublishedEventResponseService {
+
+    Optional<SerializedResponse> getPublishedEventDetails(UUID eventId);
+}
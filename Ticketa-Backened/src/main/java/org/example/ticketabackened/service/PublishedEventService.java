@@ -0,0 +1,27 @@
+package org.example.ticketabackened.service;
+
+import org.example.ticketabackened.domain.entity.PublishedEventView;
+import org.example.ticketabackened.domain.model.CursorPage;
+import org.example.ticketabackened.domain.model.EventFacets;
+import org.example.ticketabackened.domain.model.EventFilter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface PublishedEventService {
+
+    Page<PublishedEventView> getPublishedEvents(Pageable pageable);
+
+    CursorPage<PublishedEventView> getPublishedEvents(String cursor, int size);
+
+    Page<PublishedEventView> getPublishedEvents(EventFilter filter, Pageable pageable);
+
+    EventFacets getPublishedEventFacets(EventFilter filter);
+
+    Slice<PublishedEventView> searchPublishedEvents(String query, Pageable pageable);
+
+    Optional<PublishedEventView> getPublishedEvent(UUID eventId);
+}
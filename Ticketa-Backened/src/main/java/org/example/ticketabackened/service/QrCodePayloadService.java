@@ -0,0 +1,15 @@
+package org.example.ticketabackened.service;
+
+import org.example.ticketabackened.domain.entity.Ticket;
+import org.example.ticketabackened.domain.model.QrCodeClaims;
+
+public interface QrCodePayloadService {
+
+    boolean isSigningEnabled();
+
+    String createPayload(Ticket ticket);
+
+    boolean isSignedPayload(String code);
+
+    QrCodeClaims verifyPayload(String code);
+}
@@ -3,11 +3,14 @@ package org.example.ticketabackened.service;
 import org.example.ticketabackened.domain.entity.Ticket;
 import org.example.ticketabackened.domain.entity.TicketQRCode;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface QrCodeService {
 
     TicketQRCode generateQRCode(Ticket ticket);
 
+    List<TicketQRCode> generateQRCodes(List<Ticket> tickets);
+
     byte[] getQrCodeImageForUserAndTicket(UUID userId, UUID ticketId);
 }
@@ -0,0 +1,16 @@
+package org.example.ticketabackened.service;
+
+import org.example.ticketabackened.domain.entity.PublishedEventView;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public interface ReactivePublishedEventService {
+
+    Flux<PublishedEventView> getPublishedEvents(int page, int size);
+
+    Flux<PublishedEventView> searchPublishedEvents(String query, int page, int size);
+
+    Mono<PublishedEventView> getPublishedEvent(UUID eventId);
+}
@@ -0,0 +1,30 @@
+package org.example.ticketabackened.service;
+
+import org.example.ticketabackened.domain.entity.TicketValidation;
+import org.example.ticketabackened.domain.enums.TicketValidationMethod;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface TicketAdmissionService {
+
+    void loadEvent(UUID eventId);
+
+    /**
+     * Admits the ticket if its event's index is loaded: repeats are refused from memory, a first scan
+     * only once its VALID row is inserted in the caller's transaction. Empty when no loaded index knows
+     * the ticket, in which case the caller validates against the database.
+     */
+    Optional<TicketValidation> admit(UUID ticketId, TicketValidationMethod method);
+
+    /**
+     * True when a loaded index already knows the ticket as admitted, so a scan can be refused without
+     * a database round trip. False says nothing, the database still decides.
+     */
+    boolean isAdmitted(UUID ticketId);
+
+    /**
+     * Records a VALID row written elsewhere in any loaded index, once the current transaction commits.
+     */
+    void markAdmitted(UUID ticketId);
+}
@@ -0,0 +1,11 @@
+package org.example.ticketabackened.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface TicketAvailabilityService {
+
+    Optional<SseEmitter> subscribe(UUID eventId);
+}
@@ -0,0 +1,15 @@
+package org.example.ticketabackened.service;
+
+import org.example.ticketabackened.domain.entity.TicketType;
+import org.example.ticketabackened.domain.model.TicketInventory;
+
+public interface TicketInventoryService {
+
+    void configureInventory(TicketType ticketType);
+
+    boolean isSoldOut(TicketType ticketType, int quantity);
+
+    void reserveTickets(TicketType ticketType, int quantity);
+
+    TicketInventory getInventory(TicketType ticketType);
+}
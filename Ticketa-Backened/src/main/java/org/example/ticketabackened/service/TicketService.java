@@ -1,6 +1,7 @@
 package org.example.ticketabackened.service;
 
 import org.example.ticketabackened.domain.entity.Ticket;
+import org.example.ticketabackened.domain.model.CursorPage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -10,5 +11,7 @@ import java.util.UUID;
 public interface TicketService {
     Page<Ticket> getTicketsForUser(UUID userId, Pageable pageable);
 
+    CursorPage<Ticket> getTicketsForUser(UUID userId, String cursor, int size);
+
     Optional<Ticket> getTicketForUser(UUID userId, UUID ticketId);
 }
@@ -1,9 +1,15 @@
 package org.example.ticketabackened.service;
 
 import org.example.ticketabackened.domain.entity.Ticket;
+import org.example.ticketabackened.domain.model.TicketInventory;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface TicketTypeService {
     Ticket purchaseTicket(UUID userId, UUID ticketTypeId);
+
+    List<Ticket> purchaseTickets(UUID userId, UUID ticketTypeId, int quantity);
+
+    TicketInventory getInventoryForOrganiser(UUID organiserId, UUID eventId, UUID ticketTypeId);
 }
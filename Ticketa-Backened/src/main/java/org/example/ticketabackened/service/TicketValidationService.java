@@ -1,11 +1,22 @@
 package org.example.ticketabackened.service;
 
 import org.example.ticketabackened.domain.entity.TicketValidation;
+import org.example.ticketabackened.domain.model.TicketScan;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface TicketValidationService {
     TicketValidation validateTicketByQrCode(UUID qrCodeId);
 
+    TicketValidation validateTicketByQrPayload(String code, UUID eventId);
+
     TicketValidation validateTicketManually(UUID ticketId);
+
+    /**
+     * Validates scans synced from a scanner that was offline. Results are in scan order, the earliest
+     * scan of a ticket (by device time) is the one that admits it. Device times later than the sync count
+     * as the sync time, and scans dated before the event's doors could open are refused.
+     */
+    List<TicketValidation> validateTickets(UUID eventId, List<TicketScan> scans);
 }
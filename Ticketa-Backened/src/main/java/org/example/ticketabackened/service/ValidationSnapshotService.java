@@ -0,0 +1,24 @@
+package org.example.ticketabackened.service;
+
+import java.io.OutputStream;
+import java.util.UUID;
+
+/**
+ * Binary snapshot scanners download to validate offline. Big-endian layout:
+ * <pre>
+ * int   magic 'TKS1'
+ * long  version, pass back as {@code since} to get the next delta
+ * byte  1 for a full snapshot, 0 for a delta
+ * then sections until the end of the stream:
+ *   byte kind, int count, count x 16 byte ids sorted ascending
+ * </pre>
+ * Section kinds are valid tickets (1), active QR codes (2), admitted tickets (3), and in deltas only
+ * revoked tickets (4), revoked QR codes (5) and unadmitted tickets (6), whose admission was demoted and
+ * not replaced (an overturned scan moves the admission to an earlier scan, the ticket stays admitted).
+ * A delta reports the current state of every id changed since a little before the given version, so
+ * applying the same id twice is harmless.
+ */
+public interface ValidationSnapshotService {
+
+    void writeSnapshot(UUID eventId, Long since, OutputStream outputStream);
+}
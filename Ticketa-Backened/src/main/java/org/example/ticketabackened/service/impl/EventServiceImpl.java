@@ -4,9 +4,10 @@ import lombok.RequiredArgsConstructor;
 import org.example.ticketabackened.domain.entity.Event;
 import org.example.ticketabackened.domain.entity.TicketType;
 import org.example.ticketabackened.domain.entity.User;
-import org.example.ticketabackened.domain.enums.EventStatus;
+import org.example.ticketabackened.domain.model.CursorPage;
 import org.example.ticketabackened.domain.model.EventCreationRequest;
 import org.example.ticketabackened.domain.model.EventUpdationRequest;
+import org.example.ticketabackened.domain.model.PageCursor;
 import org.example.ticketabackened.domain.model.TicketTypeUpdationRequest;
 import org.example.ticketabackened.exceptionHandler.EventNotFoundException;
 import org.example.ticketabackened.exceptionHandler.EventUpdateException;
@@ -14,8 +15,14 @@ import org.example.ticketabackened.exceptionHandler.TicketTypeNotFoundException;
 import org.example.ticketabackened.exceptionHandler.UserNotFoundException;
 import org.example.ticketabackened.repositories.UserRepository;
 import org.example.ticketabackened.repositories.EventRepository;
+import org.example.ticketabackened.service.EventSearchService;
 import org.example.ticketabackened.service.EventService;
+import org.example.ticketabackened.service.EventSuggestionService;
+import org.example.ticketabackened.service.FlashSaleService;
+import org.example.ticketabackened.service.PublishedEventProjectionService;
+import org.example.ticketabackened.service.TicketInventoryService;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -30,6 +37,11 @@ public class EventServiceImpl implements EventService {
 
     private final UserRepository userRepo;
     private final EventRepository eventRepo;
+    private final TicketInventoryService ticketInventoryService;
+    private final FlashSaleService flashSaleService;
+    private final EventSearchService eventSearchService;
+    private final EventSuggestionService eventSuggestionService;
+    private final PublishedEventProjectionService publishedEventProjectionService;
 
     @Override
     @Transactional
@@ -47,7 +59,10 @@ public class EventServiceImpl implements EventService {
                     newTicketType.setPrice(ticketTypes.getPrice());
                     newTicketType.setAvailableTickets(ticketTypes.getAvailableTickets());
                     newTicketType.setDescription(ticketTypes.getDescription());
+                    newTicketType.setInventoryShards(Objects.requireNonNullElse(ticketTypes.getInventoryShards(), 1));
+                    newTicketType.setFlashSale(Boolean.TRUE.equals(ticketTypes.getFlashSale()));
                     newTicketType.setEvent(newEvent);
+                    ticketInventoryService.configureInventory(newTicketType);
                     return newTicketType;
                 }
         ).toList();
@@ -61,7 +76,11 @@ public class EventServiceImpl implements EventService {
         newEvent.setStatus(event.getStatus());
         newEvent.setOrganizer(organiser);
         newEvent.setTicketTypes(newTicketTypes);
-        return eventRepo.save(newEvent);
+        Event savedEvent = eventRepo.save(newEvent);
+        eventSearchService.index(savedEvent);
+        eventSuggestionService.index(savedEvent);
+        publishedEventProjectionService.project(savedEvent);
+        return savedEvent;
     }
 
     @Override
@@ -69,6 +88,17 @@ public class EventServiceImpl implements EventService {
         return eventRepo.findByOrganizerId(organiserId, pageable);
     }
 
+    @Override
+    public CursorPage<Event> getEventsForOrganiser(UUID organiserId, String cursor, int size) {
+        PageCursor after = PageCursor.decode(cursor);
+        int limit = CursorPage.limit(size);
+        Pageable firstRows = PageRequest.ofSize(limit + 1);
+        List<Event> events = after == null
+                ? eventRepo.findByOrganizerIdOrderByStartDateTimeAscIdAsc(organiserId, firstRows)
+                : eventRepo.findByOrganizerIdAfter(organiserId, after.getSortKey(), after.getId(), firstRows);
+        return CursorPage.of(events, limit, event -> new PageCursor(event.getStartDateTime(), event.getId()));
+    }
+
     @Override
     public Optional<Event> getEventForOrganiser(UUID eventId, UUID organiserId) {
         return eventRepo.findEventByIdAndOrganizerId(eventId, organiserId);
@@ -110,7 +140,11 @@ public class EventServiceImpl implements EventService {
         // Removed orphaned ticket types
         oldEvent.getTicketTypes().removeIf(existing -> {
             UUID existingId = existing.getId();
-            return existingId != null && !incomingTicketIds.contains(existingId);
+            boolean orphaned = existingId != null && !incomingTicketIds.contains(existingId);
+            if (orphaned) {
+                flashSaleService.evict(existingId);
+            }
+            return orphaned;
         });
 
         // update or add incoming ticket types
@@ -121,7 +155,10 @@ public class EventServiceImpl implements EventService {
                 newTicket.setPrice(ticketDto.getPrice());
                 newTicket.setAvailableTickets(ticketDto.getAvailableTickets());
                 newTicket.setDescription(ticketDto.getDescription());
+                newTicket.setInventoryShards(Objects.requireNonNullElse(ticketDto.getInventoryShards(), 1));
+                newTicket.setFlashSale(Boolean.TRUE.equals(ticketDto.getFlashSale()));
                 newTicket.setEvent(oldEvent);
+                ticketInventoryService.configureInventory(newTicket);
                 oldEvent.getTicketTypes().add(newTicket);
             } else {
                 TicketType existing = existingTicketMap.get(ticketDto.getId());
@@ -132,30 +169,33 @@ public class EventServiceImpl implements EventService {
                 existing.setPrice(ticketDto.getPrice());
                 existing.setAvailableTickets(ticketDto.getAvailableTickets());
                 existing.setDescription(ticketDto.getDescription());
+                if (ticketDto.getInventoryShards() != null) {
+                    existing.setInventoryShards(ticketDto.getInventoryShards());
+                }
+                if (ticketDto.getFlashSale() != null) {
+                    existing.setFlashSale(ticketDto.getFlashSale());
+                }
+                ticketInventoryService.configureInventory(existing);
+                flashSaleService.evict(existing.getId());
             }
         }
 
-        return eventRepo.save(oldEvent);
+        Event savedEvent = eventRepo.save(oldEvent);
+        eventSearchService.index(savedEvent);
+        eventSuggestionService.index(savedEvent);
+        publishedEventProjectionService.project(savedEvent);
+        return savedEvent;
     }
 
     @Override
     @Transactional
     public void deleteEventForOrganiser(UUID eventId, UUID organiserId) {
-        getEventForOrganiser(eventId, organiserId).ifPresent(eventRepo::delete);
-    }
-
-    @Override
-    public Page<Event> getPublishedEvents(Pageable pageable) {
-        return eventRepo.findEventByStatus(EventStatus.PUBLISHED, pageable);
-    }
-
-    @Override
-    public Page<Event> searchPublishedEvents(String query, Pageable pageable) {
-        return eventRepo.searchEvents(query, pageable);
-    }
-
-    @Override
-    public Optional<Event> getPublishedEvent(UUID eventId) {
-        return eventRepo.findEventByIdAndStatus(eventId, EventStatus.PUBLISHED);
+        getEventForOrganiser(eventId, organiserId).ifPresent(event -> {
+            event.getTicketTypes().forEach(ticketType -> flashSaleService.evict(ticketType.getId()));
+            eventRepo.delete(event);
+            eventSearchService.remove(eventId);
+            eventSuggestionService.remove(eventId);
+            publishedEventProjectionService.remove(eventId);
+        });
     }
 }
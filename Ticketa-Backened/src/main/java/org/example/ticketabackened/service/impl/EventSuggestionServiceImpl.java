@@ -0,0 +1,315 @@
+package org.example.ticketabackened.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.ticketabackened.domain.entity.Event;
+import org.example.ticketabackened.domain.enums.EventStatus;
+import org.example.ticketabackened.domain.enums.EventSuggestionType;
+import org.example.ticketabackened.domain.model.EventSuggestion;
+import org.example.ticketabackened.repositories.EventRepository;
+import org.example.ticketabackened.service.EventSuggestionService;
+import org.example.ticketabackened.service.TicketInventoryService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Typeahead over published event names and venues. Every word of a name starts a key in a trie
+ * ("summer jazz festival", "jazz festival", "festival"), so a prefix of any word matches. Each node
+ * caches its best suggestions, ranked by tickets sold and then by start date, so a lookup only walks
+ * the prefix. Edits to events update the trie incrementally. A periodic rebuild refreshes ticket
+ * sales and drops events that have ended; edits made while it reads are replayed onto the rebuilt
+ * trie before it replaces the live one.
+ */
+@Service
+@Slf4j
+public class EventSuggestionServiceImpl implements EventSuggestionService {
+
+    private static final Comparator<Candidate> RANK = Comparator.comparingLong(Candidate::popularity).reversed()
+            .thenComparing(Candidate::startDateTime)
+            .thenComparing(Candidate::text);
+
+    private final EventRepository eventRepo;
+    private final TicketInventoryService ticketInventoryService;
+    private final int maxSuggestions;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Suggestions suggestions = new Suggestions();
+    // Edits applied while a rebuild reads the events, null when none is running; guarded by the lock
+    private List<Consumer<Suggestions>> replay;
+
+    public EventSuggestionServiceImpl(
+            EventRepository eventRepo,
+            TicketInventoryService ticketInventoryService,
+            @Value("${ticketa.suggest.max-results:10}") int maxSuggestions) {
+        this.eventRepo = eventRepo;
+        this.ticketInventoryService = ticketInventoryService;
+        this.maxSuggestions = maxSuggestions;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${ticketa.suggest.rebuild-interval-ms:600000}",
+            fixedDelayString = "${ticketa.suggest.rebuild-interval-ms:600000}")
+    void rebuild() {
+        lock.writeLock().lock();
+        try {
+            replay = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Suggestions rebuilt = null;
+        List<Event> events = List.of();
+        try {
+            events = eventRepo.findByStatus(EventStatus.PUBLISHED);
+            Suggestions built = new Suggestions();
+            events.forEach(event -> built.put(toIndexedEvent(event)));
+            rebuilt = built;
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (rebuilt != null) {
+                    // An edit committed before the read is applied twice, putting or removing an event again is harmless
+                    for (Consumer<Suggestions> change : replay) {
+                        change.accept(rebuilt);
+                    }
+                    suggestions = rebuilt;
+                }
+            } finally {
+                replay = null;
+                lock.writeLock().unlock();
+            }
+        }
+        log.info("Built event suggestions from {} published events", events.size());
+    }
+
+    @Override
+    public List<EventSuggestion> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            TrieNode node = suggestions.root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.children.get(key.charAt(i));
+            }
+            if (node == null) {
+                return List.of();
+            }
+            return node.top.stream()
+                    .limit(Math.clamp(limit, 1, maxSuggestions))
+                    .map(candidate -> new EventSuggestion(candidate.text(), candidate.type(), candidate.eventId()))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(Event event) {
+        if (event.getStatus() != EventStatus.PUBLISHED) {
+            remove(event.getId());
+            return;
+        }
+        IndexedEvent indexedEvent = toIndexedEvent(event);
+        afterCommit(() -> update(suggestions -> suggestions.put(indexedEvent)));
+    }
+
+    @Override
+    public void remove(UUID eventId) {
+        afterCommit(() -> update(suggestions -> suggestions.remove(eventId)));
+    }
+
+    private void update(Consumer<Suggestions> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(suggestions);
+            if (replay != null) {
+                replay.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private IndexedEvent toIndexedEvent(Event event) {
+        long sold = event.getTicketTypes().stream()
+                .mapToLong(ticketType -> ticketInventoryService.getInventory(ticketType).getSoldTickets())
+                .sum();
+        return new IndexedEvent(event.getId(), event.getEventName(), event.getVenue(), sold,
+                event.getStartDateTime(), event.getEndDateTime());
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}+", "")
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("[^\\p{L}\\p{N}]+", " ")
+                .trim();
+    }
+
+    // Keys starting at every word of the text
+    private static List<String> keys(String text) {
+        String normalized = normalize(text);
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < normalized.length(); i++) {
+            if (i == 0 || normalized.charAt(i - 1) == ' ') {
+                keys.add(normalized.substring(i));
+            }
+        }
+        return keys;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record IndexedEvent(UUID eventId, String eventName, String venue, long sold,
+                                LocalDateTime startDateTime, LocalDateTime endDateTime) {
+    }
+
+    private record Candidate(String id, String text, EventSuggestionType type, UUID eventId, long popularity,
+                             LocalDateTime startDateTime) {
+    }
+
+    private static final class TrieNode {
+        private final Map<Character, TrieNode> children = new HashMap<>();
+        private final Set<Candidate> candidates = new HashSet<>();
+        private List<Candidate> top = List.of();
+    }
+
+    private final class Suggestions {
+        private final TrieNode root = new TrieNode();
+        private final Map<UUID, IndexedEvent> events = new HashMap<>();
+        private final Map<UUID, Candidate> eventCandidates = new HashMap<>();
+        // normalized venue -> events held there, a venue is suggested once however many events it hosts
+        private final Map<String, Map<UUID, IndexedEvent>> venueEvents = new HashMap<>();
+        private final Map<String, Candidate> venueCandidates = new HashMap<>();
+
+        private void put(IndexedEvent event) {
+            remove(event.eventId());
+            if (event.endDateTime() != null && event.endDateTime().isBefore(LocalDateTime.now())) {
+                return;
+            }
+            events.put(event.eventId(), event);
+
+            Candidate candidate = new Candidate("E:" + event.eventId(), event.eventName(), EventSuggestionType.EVENT,
+                    event.eventId(), event.sold(), event.startDateTime());
+            eventCandidates.put(event.eventId(), candidate);
+            keys(event.eventName()).forEach(key -> insert(key, candidate));
+
+            String venue = normalize(event.venue());
+            if (!venue.isEmpty()) {
+                venueEvents.computeIfAbsent(venue, key -> new HashMap<>()).put(event.eventId(), event);
+                refreshVenue(venue);
+            }
+        }
+
+        private void remove(UUID eventId) {
+            IndexedEvent event = events.remove(eventId);
+            if (event == null) {
+                return;
+            }
+            Candidate candidate = eventCandidates.remove(eventId);
+            keys(event.eventName()).forEach(key -> delete(key, candidate));
+
+            String venue = normalize(event.venue());
+            Map<UUID, IndexedEvent> hosted = venueEvents.get(venue);
+            if (hosted != null) {
+                hosted.remove(eventId);
+                if (hosted.isEmpty()) {
+                    venueEvents.remove(venue);
+                }
+                refreshVenue(venue);
+            }
+        }
+
+        private void refreshVenue(String venue) {
+            Candidate previous = venueCandidates.remove(venue);
+            if (previous != null) {
+                keys(previous.text()).forEach(key -> delete(key, previous));
+            }
+            Map<UUID, IndexedEvent> hosted = venueEvents.get(venue);
+            if (hosted == null) {
+                return;
+            }
+            IndexedEvent next = hosted.values().stream()
+                    .min(Comparator.comparing(IndexedEvent::startDateTime))
+                    .orElseThrow();
+            long sold = hosted.values().stream().mapToLong(IndexedEvent::sold).sum();
+            Candidate candidate = new Candidate("V:" + venue, next.venue(), EventSuggestionType.VENUE,
+                    null, sold, next.startDateTime());
+            venueCandidates.put(venue, candidate);
+            keys(candidate.text()).forEach(key -> insert(key, candidate));
+        }
+
+        private void insert(String key, Candidate candidate) {
+            List<TrieNode> path = new ArrayList<>(key.length() + 1);
+            TrieNode node = root;
+            path.add(node);
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new TrieNode());
+                path.add(node);
+            }
+            node.candidates.add(candidate);
+            refreshTop(path);
+        }
+
+        private void delete(String key, Candidate candidate) {
+            List<TrieNode> path = new ArrayList<>(key.length() + 1);
+            TrieNode node = root;
+            path.add(node);
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.children.get(key.charAt(i));
+                path.add(node);
+            }
+            if (node == null) {
+                return;
+            }
+            node.candidates.remove(candidate);
+            // Drop nodes left without suggestions below them
+            for (int i = path.size() - 1; i > 0; i--) {
+                TrieNode child = path.get(i);
+                if (child.candidates.isEmpty() && child.children.isEmpty()) {
+                    path.get(i - 1).children.remove(key.charAt(i - 1));
+                }
+            }
+            refreshTop(path);
+        }
+
+        private void refreshTop(List<TrieNode> path) {
+            for (int i = path.size() - 1; i >= 0; i--) {
+                TrieNode node = path.get(i);
+                // Candidates appear once per key, so the same one can come up through several children
+                Set<Candidate> merged = new HashSet<>(node.candidates);
+                node.children.values().forEach(child -> merged.addAll(child.top));
+                node.top = merged.stream().sorted(RANK).limit(maxSuggestions).toList();
+            }
+        }
+    }
+}
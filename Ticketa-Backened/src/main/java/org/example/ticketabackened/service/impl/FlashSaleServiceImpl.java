@@ -0,0 +1,334 @@
+package org.example.ticketabackened.service.impl;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.ticketabackened.config.ThreadBuilders;
+import org.example.ticketabackened.domain.entity.Ticket;
+import org.example.ticketabackened.domain.entity.TicketType;
+import org.example.ticketabackened.domain.enums.TicketStatus;
+import org.example.ticketabackened.exceptionHandler.FlashSaleUnavailableException;
+import org.example.ticketabackened.exceptionHandler.TicketsSoldOutException;
+import org.example.ticketabackened.repositories.TicketRepository;
+import org.example.ticketabackened.repositories.TicketTypeRepository;
+import org.example.ticketabackened.repositories.UserRepository;
+import org.example.ticketabackened.service.FlashSaleService;
+import org.example.ticketabackened.service.PublishedEventProjectionService;
+import org.example.ticketabackened.service.QrCodeService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Accepts or rejects purchases for flash sale ticket types against an in-memory counter and hands
+ * accepted ones to a single writer thread that persists them in batches. A buyer only gets their
+ * ticket once the batch containing it has committed, and every batch re-checks the ticket type row,
+ * so a stale counter (another instance, an organiser edit) can never oversell. A counter that runs
+ * out is re-read from the database at most once per sold-out-recheck-ms, so stock released elsewhere
+ * is sold here too.
+ */
+@Service
+@Slf4j
+public class FlashSaleServiceImpl implements FlashSaleService {
+
+    private static final FlashSalePool NOT_FLASH_SALE = new FlashSalePool(false, 0);
+
+    private final TicketTypeRepository ticketTypeRepo;
+    private final TicketRepository ticketRepo;
+    private final UserRepository userRepo;
+    private final QrCodeService qrCodeService;
+    private final PublishedEventProjectionService publishedEventProjectionService;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadBuilders threadBuilders;
+    private final int batchSize;
+    private final long purchaseTimeoutMillis;
+    private final long soldOutRecheckMillis;
+
+    private final BlockingQueue<PendingPurchase> queue;
+    private final ConcurrentMap<UUID, FlashSalePool> pools = new ConcurrentHashMap<>();
+    private volatile boolean running;
+    private Thread writer;
+
+    public FlashSaleServiceImpl(
+            TicketTypeRepository ticketTypeRepo,
+            TicketRepository ticketRepo,
+            UserRepository userRepo,
+            QrCodeService qrCodeService,
+            PublishedEventProjectionService publishedEventProjectionService,
+            TransactionTemplate transactionTemplate,
+            ThreadBuilders threadBuilders,
+            @Value("${ticketa.flash-sale.batch-size:500}") int batchSize,
+            @Value("${ticketa.flash-sale.queue-capacity:20000}") int queueCapacity,
+            @Value("${ticketa.flash-sale.purchase-timeout-ms:10000}") long purchaseTimeoutMillis,
+            @Value("${ticketa.flash-sale.sold-out-recheck-ms:1000}") long soldOutRecheckMillis) {
+        this.ticketTypeRepo = ticketTypeRepo;
+        this.ticketRepo = ticketRepo;
+        this.userRepo = userRepo;
+        this.qrCodeService = qrCodeService;
+        this.publishedEventProjectionService = publishedEventProjectionService;
+        this.transactionTemplate = transactionTemplate;
+        this.threadBuilders = threadBuilders;
+        this.batchSize = batchSize;
+        this.purchaseTimeoutMillis = purchaseTimeoutMillis;
+        this.soldOutRecheckMillis = soldOutRecheckMillis;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        writer = threadBuilders.start("flash-sale-writer", this::drainQueue);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        writer.join(purchaseTimeoutMillis);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void preloadPools() {
+        ticketTypeRepo.findByFlashSaleTrue().forEach(ticketType -> pools.putIfAbsent(ticketType.getId(), loadPool(ticketType)));
+        log.info("Loaded {} flash sale ticket types", pools.size());
+    }
+
+    @Override
+    public boolean isFlashSale(UUID ticketTypeId) {
+        FlashSalePool pool = getPool(ticketTypeId);
+        return pool != null && pool.enabled;
+    }
+
+    @Override
+    public List<Ticket> purchaseTickets(UUID userId, UUID ticketTypeId, int quantity) {
+        FlashSalePool pool = getPool(ticketTypeId);
+        if (pool == null || !pool.enabled) {
+            throw new FlashSaleUnavailableException("Ticket type " + ticketTypeId + " is not on flash sale");
+        }
+        if (!pool.tryAcquire(quantity) && !(recheckSoldOut(ticketTypeId, pool) && pool.tryAcquire(quantity))) {
+            throw new TicketsSoldOutException();
+        }
+
+        PendingPurchase purchase = new PendingPurchase(userId, ticketTypeId, quantity, pool, new CompletableFuture<>());
+        if (!running || !queue.offer(purchase)) {
+            pool.settle(quantity, true);
+            throw new FlashSaleUnavailableException("Flash sale queue is full");
+        }
+
+        try {
+            return purchase.result().get(purchaseTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new FlashSaleUnavailableException(ex.getCause());
+        } catch (TimeoutException ex) {
+            // The batch may still commit, in which case the ticket shows up in the buyer's tickets
+            throw new FlashSaleUnavailableException("Timed out waiting for purchase to be confirmed", ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new FlashSaleUnavailableException(ex);
+        }
+    }
+
+    @Override
+    public void evict(UUID ticketTypeId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            pools.remove(ticketTypeId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                pools.remove(ticketTypeId);
+            }
+        });
+    }
+
+    private FlashSalePool getPool(UUID ticketTypeId) {
+        FlashSalePool pool = pools.get(ticketTypeId);
+        if (pool != null) {
+            return pool;
+        }
+        return ticketTypeRepo.findById(ticketTypeId)
+                .map(ticketType -> pools.computeIfAbsent(ticketTypeId, id -> loadPool(ticketType)))
+                .orElse(null);
+    }
+
+    // Only one caller per interval goes to the database, the rest are told it is sold out
+    private boolean recheckSoldOut(UUID ticketTypeId, FlashSalePool pool) {
+        if (!pool.claimRecheck(System.currentTimeMillis(), soldOutRecheckMillis)) {
+            return false;
+        }
+        Integer remaining = ticketTypeRepo.findRemainingTickets(ticketTypeId);
+        pool.resync(remaining == null ? 0 : remaining);
+        return true;
+    }
+
+    private FlashSalePool loadPool(TicketType ticketType) {
+        if (!ticketType.isFlashSale()) {
+            return NOT_FLASH_SALE;
+        }
+        return new FlashSalePool(true, ticketType.getAvailableTickets() - ticketType.getSoldTickets());
+    }
+
+    private void drainQueue() {
+        List<PendingPurchase> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingPurchase first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                writeBatch(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                log.error("Flash sale writer failed", ex);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void writeBatch(List<PendingPurchase> batch) {
+        try {
+            persist(batch);
+        } catch (RuntimeException ex) {
+            if (batch.size() == 1) {
+                log.error("Failed to persist flash sale purchase", ex);
+                fail(batch.get(0), ex);
+                return;
+            }
+            // One bad purchase (a missing user, a constraint) must not fail everyone batched with it
+            log.warn("Failed to persist flash sale batch of {} purchases, retrying them one by one", batch.size(), ex);
+            for (PendingPurchase purchase : batch) {
+                try {
+                    persist(List.of(purchase));
+                } catch (RuntimeException purchaseEx) {
+                    log.error("Failed to persist flash sale purchase", purchaseEx);
+                    fail(purchase, purchaseEx);
+                }
+            }
+        }
+    }
+
+    private void persist(List<PendingPurchase> batch) {
+        // Sorted so concurrent writers on other instances lock ticket type rows in the same order
+        Map<UUID, List<PendingPurchase>> byTicketType = batch.stream()
+                .collect(Collectors.groupingBy(PendingPurchase::ticketTypeId, TreeMap::new, Collectors.toList()));
+        Map<PendingPurchase, List<Ticket>> accepted = new LinkedHashMap<>();
+        List<PendingPurchase> rejected = new ArrayList<>();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            accepted.clear();
+            rejected.clear();
+            byTicketType.forEach((ticketTypeId, purchases) -> {
+                Integer remaining = ticketTypeRepo.findRemainingTicketsWithLock(ticketTypeId);
+                int available = remaining == null ? 0 : remaining;
+                int quantity = 0;
+
+                TicketType ticketType = ticketTypeRepo.getReferenceById(ticketTypeId);
+                for (PendingPurchase purchase : purchases) {
+                    if (quantity + purchase.quantity() > available) {
+                        rejected.add(purchase);
+                        continue;
+                    }
+                    quantity += purchase.quantity();
+                    List<Ticket> tickets = new ArrayList<>(purchase.quantity());
+                    for (int i = 0; i < purchase.quantity(); i++) {
+                        Ticket ticket = new Ticket();
+                        ticket.setStatus(TicketStatus.PURCHASED);
+                        ticket.setTicketType(ticketType);
+                        ticket.setTicketBuyer(userRepo.getReferenceById(purchase.userId()));
+                        tickets.add(ticket);
+                    }
+                    accepted.put(purchase, tickets);
+                }
+                if (quantity > 0) {
+                    ticketTypeRepo.addSoldTickets(ticketTypeId, quantity);
+                    publishedEventProjectionService.inventoryChanged(ticketTypeId);
+                }
+            });
+            List<Ticket> tickets = accepted.values().stream().flatMap(List::stream).toList();
+            ticketRepo.saveAll(tickets);
+            qrCodeService.generateQRCodes(tickets);
+        });
+
+        accepted.forEach((purchase, tickets) -> {
+            purchase.pool().settle(purchase.quantity(), false);
+            purchase.result().complete(tickets);
+        });
+        for (PendingPurchase purchase : rejected) {
+            // The in-memory counter was ahead of the database, resync it on the next purchase
+            purchase.pool().settle(purchase.quantity(), false);
+            pools.remove(purchase.ticketTypeId(), purchase.pool());
+            purchase.result().completeExceptionally(new TicketsSoldOutException());
+        }
+    }
+
+    private void fail(PendingPurchase purchase, RuntimeException ex) {
+        purchase.pool().settle(purchase.quantity(), true);
+        purchase.result().completeExceptionally(ex);
+    }
+
+    private record PendingPurchase(UUID userId, UUID ticketTypeId, int quantity, FlashSalePool pool,
+                                   CompletableFuture<List<Ticket>> result) {
+    }
+
+    private static final class FlashSalePool {
+        private final boolean enabled;
+        private final AtomicInteger remaining;
+        // Accepted but not yet committed or failed, not in the database's count yet
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicLong nextRecheckAt = new AtomicLong();
+
+        private FlashSalePool(boolean enabled, int remaining) {
+            this.enabled = enabled;
+            this.remaining = new AtomicInteger(remaining);
+        }
+
+        private boolean tryAcquire(int quantity) {
+            while (true) {
+                int current = remaining.get();
+                if (current < quantity) {
+                    return false;
+                }
+                if (remaining.compareAndSet(current, current - quantity)) {
+                    inFlight.addAndGet(quantity);
+                    return true;
+                }
+            }
+        }
+
+        // Written or rejected by the writer; released tickets go back on sale
+        private void settle(int quantity, boolean release) {
+            inFlight.addAndGet(-quantity);
+            if (release) {
+                remaining.addAndGet(quantity);
+            }
+        }
+
+        private boolean claimRecheck(long now, long intervalMillis) {
+            long next = nextRecheckAt.get();
+            return now >= next && nextRecheckAt.compareAndSet(next, now + intervalMillis);
+        }
+
+        // A slightly high count is harmless, the writer re-checks under the row lock
+        private void resync(int remainingInDatabase) {
+            remaining.set(Math.max(0, remainingInDatabase - inFlight.get()));
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package org.example.ticketabackened.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.ticketabackened.domain.entity.Event;
+import org.example.ticketabackened.domain.entity.PublishedEventView;
+import org.example.ticketabackened.domain.entity.TicketType;
+import org.example.ticketabackened.domain.enums.EventStatus;
+import org.example.ticketabackened.repositories.EventRepository;
+import org.example.ticketabackened.repositories.PublishedEventViewRepository;
+import org.example.ticketabackened.service.EventSearchService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Inverted index over published event names, venues and ticket type names, scored with BM25.
+ * Every query word must match a term exactly, as a prefix, or within one or two typos (by length).
+ * Inexact matches score less than exact ones. Only the requested page is loaded, by primary key,
+ * from the published event view. Edits made through this instance apply after commit; a periodic
+ * rebuild picks up the ones made by other instances, replaying local edits made while it reads.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ticketa.search.backend", havingValue = "memory")
+public class InMemoryEventSearchServiceImpl implements EventSearchService {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int NAME_WEIGHT = 3;
+    private static final double PREFIX_FACTOR = 0.8;
+    private static final double TYPO_FACTOR = 0.6;
+
+    private final EventRepository eventRepo;
+    private final PublishedEventViewRepository publishedEventViewRepo;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private SearchIndex searchIndex = new SearchIndex();
+    // Edits applied while a rebuild reads the events, null when none is running; guarded by the lock
+    private List<Consumer<SearchIndex>> replay;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${ticketa.search.rebuild-interval-ms:600000}",
+            fixedDelayString = "${ticketa.search.rebuild-interval-ms:600000}")
+    void rebuild() {
+        lock.writeLock().lock();
+        try {
+            replay = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        SearchIndex rebuilt = null;
+        List<Event> events = List.of();
+        try {
+            events = eventRepo.findByStatus(EventStatus.PUBLISHED);
+            SearchIndex built = new SearchIndex();
+            events.forEach(event -> built.apply(event.getId(), toDocument(event)));
+            rebuilt = built;
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (rebuilt != null) {
+                    // An edit committed before the read is applied twice, indexing or removing an event again is harmless
+                    for (Consumer<SearchIndex> change : replay) {
+                        change.accept(rebuilt);
+                    }
+                    searchIndex = rebuilt;
+                }
+            } finally {
+                replay = null;
+                lock.writeLock().unlock();
+            }
+        }
+        log.info("Indexed {} published events for search", events.size());
+    }
+
+    @Override
+    public Slice<PublishedEventView> searchPublishedEvents(String query, Pageable pageable) {
+        List<String> queryTerms = tokenize(query);
+        if (queryTerms.isEmpty()) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+
+        List<Map.Entry<UUID, Double>> ranked;
+        lock.readLock().lock();
+        try {
+            ranked = searchIndex.rank(queryTerms);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        int from = (int) Math.min(pageable.getOffset(), ranked.size());
+        int to = Math.min(from + pageable.getPageSize(), ranked.size());
+        List<UUID> pageIds = ranked.subList(from, to).stream().map(Map.Entry::getKey).toList();
+        Map<UUID, PublishedEventView> events = publishedEventViewRepo.findAllById(pageIds).stream()
+                .collect(Collectors.toMap(PublishedEventView::getId, Function.identity()));
+        List<PublishedEventView> content = pageIds.stream().map(events::get).filter(Objects::nonNull).toList();
+        return new SliceImpl<>(content, pageable, to < ranked.size());
+    }
+
+    @Override
+    public void index(Event event) {
+        if (event.getStatus() != EventStatus.PUBLISHED) {
+            remove(event.getId());
+            return;
+        }
+        // Read the entity now, it may be detached and its ticket types unloadable after commit
+        UUID eventId = event.getId();
+        SearchDocument document = toDocument(event);
+        afterCommit(() -> update(index -> index.apply(eventId, document)));
+    }
+
+    @Override
+    public void remove(UUID eventId) {
+        afterCommit(() -> update(index -> index.apply(eventId, null)));
+    }
+
+    private void update(Consumer<SearchIndex> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(searchIndex);
+            if (replay != null) {
+                replay.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private SearchDocument toDocument(Event event) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        tokenize(event.getEventName()).forEach(term -> frequencies.merge(term, NAME_WEIGHT, Integer::sum));
+        tokenize(event.getVenue()).forEach(term -> frequencies.merge(term, 1, Integer::sum));
+        for (TicketType ticketType : event.getTicketTypes()) {
+            tokenize(ticketType.getName()).forEach(term -> frequencies.merge(term, 1, Integer::sum));
+        }
+        int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+        return new SearchDocument(frequencies, length, event.getStartDateTime());
+    }
+
+    private static List<String> tokenize(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        String folded = Normalizer.normalize(text, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}+", "")
+                .toLowerCase(Locale.ROOT);
+        return Arrays.stream(folded.split("[^\\p{L}\\p{N}]+"))
+                .filter(token -> !token.isEmpty())
+                .toList();
+    }
+
+    // Damerau-Levenshtein (adjacent transpositions), giving up once every path exceeds max
+    private static int editDistance(String a, String b, int max) {
+        int[][] d = new int[a.length() + 1][b.length() + 1];
+        for (int i = 0; i <= a.length(); i++) {
+            d[i][0] = i;
+        }
+        for (int j = 0; j <= b.length(); j++) {
+            d[0][j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            int rowMin = Integer.MAX_VALUE;
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                d[i][j] = Math.min(Math.min(d[i - 1][j] + 1, d[i][j - 1] + 1), d[i - 1][j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    d[i][j] = Math.min(d[i][j], d[i - 2][j - 2] + 1);
+                }
+                rowMin = Math.min(rowMin, d[i][j]);
+            }
+            if (rowMin > max) {
+                return rowMin;
+            }
+        }
+        return d[a.length()][b.length()];
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record SearchDocument(Map<String, Integer> frequencies, int length, LocalDateTime startDateTime) {
+    }
+
+    private static final class SearchIndex {
+        // term -> event id -> weighted term frequency
+        private final NavigableMap<String, Map<UUID, Integer>> postings = new TreeMap<>();
+        private final Map<UUID, SearchDocument> documents = new HashMap<>();
+        private long totalLength;
+
+        private List<Map.Entry<UUID, Double>> rank(List<String> queryTerms) {
+            int documentCount = documents.size();
+            if (documentCount == 0) {
+                return List.of();
+            }
+            double averageLength = (double) totalLength / documentCount;
+
+            Map<UUID, Double> scores = null;
+            for (String queryTerm : queryTerms) {
+                Map<UUID, Double> termScores = new HashMap<>();
+                expand(queryTerm).forEach((term, factor) -> {
+                    Map<UUID, Integer> posting = postings.get(term);
+                    double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+                    posting.forEach((eventId, frequency) -> {
+                        double norm = K1 * (1 - B + B * documents.get(eventId).length() / averageLength);
+                        double score = factor * idf * frequency * (K1 + 1) / (frequency + norm);
+                        termScores.merge(eventId, score, Math::max);
+                    });
+                });
+                // Every query word has to match something
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    scores.keySet().retainAll(termScores.keySet());
+                    scores.replaceAll((eventId, score) -> score + termScores.get(eventId));
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            Comparator<Map.Entry<UUID, Double>> byScore = Map.Entry.<UUID, Double>comparingByValue().reversed();
+            return scores.entrySet().stream()
+                    .sorted(byScore.thenComparing(entry -> documents.get(entry.getKey()).startDateTime(),
+                            Comparator.nullsLast(Comparator.naturalOrder())))
+                    .toList();
+        }
+
+        // Index terms a query word can match, with the factor its score is scaled by
+        private Map<String, Double> expand(String queryTerm) {
+            Map<String, Double> terms = new HashMap<>();
+            for (String term : postings.subMap(queryTerm, true, queryTerm + Character.MAX_VALUE, false).keySet()) {
+                terms.put(term, term.length() == queryTerm.length() ? 1.0 : PREFIX_FACTOR);
+            }
+            int maxTypos = queryTerm.length() >= 8 ? 2 : queryTerm.length() >= 4 ? 1 : 0;
+            if (maxTypos == 0) {
+                return terms;
+            }
+            // Typos in the first letter are rare, so only terms sharing it are compared
+            String first = queryTerm.substring(0, 1);
+            for (String term : postings.subMap(first, true, first + Character.MAX_VALUE, false).keySet()) {
+                if (!terms.containsKey(term)
+                        && Math.abs(term.length() - queryTerm.length()) <= maxTypos
+                        && editDistance(queryTerm, term, maxTypos) <= maxTypos) {
+                    terms.put(term, TYPO_FACTOR);
+                }
+            }
+            return terms;
+        }
+
+        private void apply(UUID eventId, SearchDocument document) {
+            SearchDocument previous = documents.remove(eventId);
+            if (previous != null) {
+                totalLength -= previous.length();
+                previous.frequencies().keySet().forEach(term -> {
+                    Map<UUID, Integer> posting = postings.get(term);
+                    posting.remove(eventId);
+                    if (posting.isEmpty()) {
+                        postings.remove(term);
+                    }
+                });
+            }
+            if (document != null) {
+                documents.put(eventId, document);
+                totalLength += document.length();
+                document.frequencies().forEach((term, frequency) ->
+                        postings.computeIfAbsent(term, key -> new HashMap<>()).put(eventId, frequency));
+            }
+        }
+    }
+}
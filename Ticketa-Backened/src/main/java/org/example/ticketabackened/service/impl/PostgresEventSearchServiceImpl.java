@@ -0,0 +1,41 @@
+package org.example.ticketabackened.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.example.ticketabackened.domain.entity.Event;
+import org.example.ticketabackened.domain.entity.PublishedEventView;
+import org.example.ticketabackened.repositories.PublishedEventViewRepository;
+import org.example.ticketabackened.service.EventSearchService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ticketa.search.backend", havingValue = "postgres", matchIfMissing = true)
+public class PostgresEventSearchServiceImpl implements EventSearchService {
+
+    private final PublishedEventViewRepository publishedEventViewRepo;
+
+    @Override
+    public Slice<PublishedEventView> searchPublishedEvents(String query, Pageable pageable) {
+        String prefixQuery = PublishedEventViewRepository.toPrefixQuery(query);
+        if (prefixQuery.isEmpty()) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+        return publishedEventViewRepo.search(prefixQuery, pageable);
+    }
+
+    // The generated search_vector column keeps itself up to date
+    @Override
+    public void index(Event event) {
+    }
+
+    @Override
+    public void remove(UUID eventId) {
+    }
+}
@@ -0,0 +1,159 @@
+package org.example.ticketabackened.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.ticketabackened.config.CacheConfig;
+import org.example.ticketabackened.domain.entity.Event;
+import org.example.ticketabackened.domain.entity.PublishedEventView;
+import org.example.ticketabackened.domain.entity.TicketType;
+import org.example.ticketabackened.domain.enums.EventStatus;
+import org.example.ticketabackened.domain.model.PublishedTicketType;
+import org.example.ticketabackened.domain.model.TicketInventory;
+import org.example.ticketabackened.repositories.EventRepository;
+import org.example.ticketabackened.repositories.PublishedEventViewRepository;
+import org.example.ticketabackened.repositories.TicketTypeRepository;
+import org.example.ticketabackened.service.PublishedEventProjectionService;
+import org.example.ticketabackened.service.TicketInventoryService;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Writes published_event_view rows from the event write model. Organiser edits project the whole event
+ * inside their own transaction. Purchases only mark their ticket type; a scheduled pass then refreshes
+ * remaining tickets once per event, so a sale burst costs one view update per interval rather than one
+ * per purchase. That pass locks the view row before it reads the event, so it cannot overwrite an
+ * organiser edit with an older read.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class PublishedEventProjectionServiceImpl implements PublishedEventProjectionService {
+
+    private final PublishedEventViewRepository publishedEventViewRepo;
+    private final EventRepository eventRepo;
+    private final TicketTypeRepository ticketTypeRepo;
+    private final TicketInventoryService ticketInventoryService;
+    private final CacheManager cacheManager;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Set<UUID> changedTicketTypes = ConcurrentHashMap.newKeySet();
+
+    // Catches up with events written before the view existed or while projection failed. Set-based, so
+    // startup doesn't lock and load the catalogue one event at a time.
+    @EventListener(ApplicationReadyEvent.class)
+    void rebuild() {
+        transactionTemplate.executeWithoutResult(status -> {
+            int projected = publishedEventViewRepo.projectAllPublished();
+            int removed = publishedEventViewRepo.deleteUnpublished();
+            log.info("Projected {} published events into the catalogue view, removed {}", projected, removed);
+        });
+    }
+
+    @Override
+    @Transactional
+    public void project(Event event) {
+        write(event);
+        afterCommit(() -> evict(event.getId(), true));
+    }
+
+    @Override
+    @Transactional
+    public void remove(UUID eventId) {
+        publishedEventViewRepo.findByIdWithLock(eventId).ifPresent(publishedEventViewRepo::delete);
+        afterCommit(() -> evict(eventId, true));
+    }
+
+    @Override
+    public void inventoryChanged(UUID ticketTypeId) {
+        afterCommit(() -> changedTicketTypes.add(ticketTypeId));
+    }
+
+    @Scheduled(fixedDelayString = "${ticketa.catalogue.inventory-refresh-ms:1000}")
+    void refreshInventory() {
+        if (changedTicketTypes.isEmpty()) {
+            return;
+        }
+        // Marks added after this snapshot stay in the set for the next pass
+        List<UUID> ticketTypeIds = new ArrayList<>(changedTicketTypes);
+        changedTicketTypes.removeAll(ticketTypeIds);
+
+        for (UUID eventId : ticketTypeRepo.findEventIdsByIdIn(ticketTypeIds)) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (publishedEventViewRepo.findByIdWithLock(eventId).isPresent()) {
+                        eventRepo.findById(eventId).ifPresent(this::write);
+                    }
+                });
+                // Listings carry no inventory, only the event's own entries go stale
+                evict(eventId, false);
+            } catch (RuntimeException ex) {
+                log.error("Failed to refresh catalogue inventory for event {}", eventId, ex);
+            }
+        }
+    }
+
+    private void write(Event event) {
+        Optional<PublishedEventView> existing = publishedEventViewRepo.findByIdWithLock(event.getId());
+        if (event.getStatus() != EventStatus.PUBLISHED) {
+            existing.ifPresent(publishedEventViewRepo::delete);
+            return;
+        }
+
+        PublishedEventView view = existing.orElseGet(PublishedEventView::new);
+        view.setId(event.getId());
+        view.setEventName(event.getEventName());
+        view.setStartDateTime(event.getStartDateTime());
+        view.setEndDateTime(event.getEndDateTime());
+        view.setVenue(event.getVenue());
+        view.setSalesStartDateTime(event.getSalesStartDateTime());
+        view.setSalesEndDateTime(event.getSalesEndDateTime());
+
+        List<PublishedTicketType> ticketTypes = new ArrayList<>(event.getTicketTypes().size());
+        for (TicketType ticketType : event.getTicketTypes()) {
+            TicketInventory inventory = ticketInventoryService.getInventory(ticketType);
+            ticketTypes.add(new PublishedTicketType(ticketType.getId(), ticketType.getName(),
+                    ticketType.getDescription(), ticketType.getPrice(), inventory.getTotalTickets(),
+                    inventory.getRemainingTickets()));
+        }
+        DoubleSummaryStatistics prices = ticketTypes.stream().mapToDouble(PublishedTicketType::getPrice).summaryStatistics();
+        view.setTicketTypes(ticketTypes);
+        view.setMinPrice(ticketTypes.isEmpty() ? null : prices.getMin());
+        view.setMaxPrice(ticketTypes.isEmpty() ? null : prices.getMax());
+        view.setRemainingTickets(ticketTypes.stream().mapToInt(PublishedTicketType::getRemainingTickets).sum());
+        view.setRefreshedAt(LocalDateTime.now());
+        publishedEventViewRepo.save(view);
+    }
+
+    // Listing pages can all shift when one published event changes, so they go together
+    private void evict(UUID eventId, boolean listings) {
+        Objects.requireNonNull(cacheManager.getCache(CacheConfig.PUBLISHED_EVENT)).evict(eventId);
+        Objects.requireNonNull(cacheManager.getCache(CacheConfig.PUBLISHED_EVENT_RESPONSE)).evict(eventId);
+        if (listings) {
+            Objects.requireNonNull(cacheManager.getCache(CacheConfig.PUBLISHED_EVENTS)).clear();
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.ticketabackened.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.example.ticketabackened.config.CacheConfig;
+import org.example.ticketabackened.domain.model.SerializedResponse;
+import org.example.ticketabackened.mappers.EventMapper;
+import org.example.ticketabackened.service.PublishedEventResponseService;
+import org.example.ticketabackened.service.PublishedEventService;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+@Service
+@RequiredArgsConstructor
+public class PublishedEventResponseServiceImpl implements PublishedEventResponseService {
+
+    private final PublishedEventService publishedEventService;
+    private final EventMapper eventMapper;
+    private final ObjectMapper objectMapper;
+    private final CacheManager cacheManager;
+
+    @Override
+    public Optional<SerializedResponse> getPublishedEventDetails(UUID eventId) {
+        Cache cache = Objects.requireNonNull(cacheManager.getCache(CacheConfig.PUBLISHED_EVENT_RESPONSE));
+        // Unknown ids are cached as null too, repeated 404s stay off the database until the event changes
+        return Optional.ofNullable(cache.get(eventId, () -> render(eventId)));
+    }
+
+    private SerializedResponse render(UUID eventId) {
+        return publishedEventService.getPublishedEvent(eventId)
+                .map(eventMapper::toPublishedEventDetailsResponseDto)
+                .map(this::serialize)
+                .orElse(null);
+    }
+
+    private SerializedResponse serialize(Object body) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            ByteArrayOutputStream gzipped = new ByteArrayOutputStream(json.length / 2 + 32);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(gzipped)) {
+                gzip.write(json);
+            }
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(json);
+            String etag = "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(hash, 16)) + "\"";
+            return new SerializedResponse(json, gzipped.toByteArray(), etag);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize published event", ex);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.ticketabackened.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.example.ticketabackened.config.CacheConfig;
+import org.example.ticketabackened.domain.entity.PublishedEventView;
+import org.example.ticketabackened.domain.model.CursorPage;
+import org.example.ticketabackened.domain.model.EventFacetCount;
+import org.example.ticketabackened.domain.model.EventFacets;
+import org.example.ticketabackened.domain.model.EventFilter;
+import org.example.ticketabackened.domain.model.PageCursor;
+import org.example.ticketabackened.repositories.PublishedEventViewRepository;
+import org.example.ticketabackened.service.EventSearchService;
+import org.example.ticketabackened.service.PublishedEventService;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.util.*;
+
+@Service
+@RequiredArgsConstructor
+public class PublishedEventServiceImpl implements PublishedEventService {
+
+    private final PublishedEventViewRepository publishedEventViewRepo;
+    private final EventSearchService eventSearchService;
+
+    @Override
+    @Cacheable(cacheNames = CacheConfig.PUBLISHED_EVENTS, key = "#pageable", sync = true)
+    public Page<PublishedEventView> getPublishedEvents(Pageable pageable) {
+        return publishedEventViewRepo.findAll(pageable);
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheConfig.PUBLISHED_EVENTS, key = "'cursor:' + #cursor + ':' + #size", sync = true)
+    public CursorPage<PublishedEventView> getPublishedEvents(String cursor, int size) {
+        PageCursor after = PageCursor.decode(cursor);
+        int limit = CursorPage.limit(size);
+        Pageable firstRows = PageRequest.ofSize(limit + 1);
+        List<PublishedEventView> events = after == null
+                ? publishedEventViewRepo.findAllByOrderByStartDateTimeAscIdAsc(firstRows)
+                : publishedEventViewRepo.findAfter(after.getSortKey(), after.getId(), firstRows);
+        return CursorPage.of(events, limit, event -> new PageCursor(event.getStartDateTime(), event.getId()));
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheConfig.PUBLISHED_EVENTS, key = "{'filter', #filter, #pageable}", sync = true)
+    public Page<PublishedEventView> getPublishedEvents(EventFilter filter, Pageable pageable) {
+        Pageable sorted = pageable.getSort().isSorted()
+                ? pageable
+                : PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by("startDateTime", "id"));
+        return publishedEventViewRepo.findFiltered(filter.getFrom(), filter.getTo(), venueOf(filter),
+                filter.getMinPrice(), filter.getMaxPrice(), sorted);
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheConfig.PUBLISHED_EVENTS, key = "{'facets', #filter}", sync = true)
+    public EventFacets getPublishedEventFacets(EventFilter filter) {
+        List<EventFacetCount> rows = publishedEventViewRepo.countFacets(filter.getFrom(), filter.getTo(),
+                venueOf(filter), filter.getMinPrice(), filter.getMaxPrice());
+
+        Map<String, Long> venues = new HashMap<>();
+        Map<YearMonth, Long> months = new TreeMap<>();
+        long total = 0;
+        for (EventFacetCount row : rows) {
+            if (row.getVenue() != null && !row.getVenue().isBlank()) {
+                venues.merge(row.getVenue(), row.getEvents(), Long::sum);
+            }
+            months.merge(YearMonth.of(row.getYear(), row.getMonth()), row.getEvents(), Long::sum);
+            total += row.getEvents();
+        }
+
+        EventFacets facets = new EventFacets();
+        facets.setTotalEvents(total);
+        venues.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .forEach(entry -> facets.getVenues().put(entry.getKey(), entry.getValue()));
+        months.forEach((month, count) -> facets.getMonths().put(month.toString(), count));
+        return facets;
+    }
+
+    @Override
+    public Slice<PublishedEventView> searchPublishedEvents(String query, Pageable pageable) {
+        return eventSearchService.searchPublishedEvents(query, pageable);
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheConfig.PUBLISHED_EVENT, key = "#eventId", sync = true)
+    public Optional<PublishedEventView> getPublishedEvent(UUID eventId) {
+        return publishedEventViewRepo.findById(eventId);
+    }
+
+    private static String venueOf(EventFilter filter) {
+        return filter.getVenue() == null || filter.getVenue().isBlank() ? null : filter.getVenue().trim();
+    }
+}
@@ -0,0 +1,139 @@
+package org.example.ticketabackened.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.ticketabackened.domain.entity.Event;
+import org.example.ticketabackened.domain.entity.Ticket;
+import org.example.ticketabackened.domain.entity.TicketType;
+import org.example.ticketabackened.domain.model.QrCodeClaims;
+import org.example.ticketabackened.exceptionHandler.QrCodeNotFoundException;
+import org.example.ticketabackened.service.QrCodePayloadService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Signed QR payloads: {@code TK1.<ticketId|eventId|ticketTypeId|expiry>.<HMAC-SHA256 truncated to 128 bits>},
+ * both parts base64url encoded. A scanner's code can be checked with CPU work alone; the database is only
+ * needed to find out whether the ticket was already admitted. Without a configured key, codes fall back
+ * to encoding just the QR code id.
+ */
+@Service
+@Slf4j
+public class QrCodePayloadServiceImpl implements QrCodePayloadService {
+
+    private static final String PREFIX = "TK1.";
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int CLAIMS_LENGTH = 3 * 16 + Long.BYTES;
+    private static final int SIGNATURE_LENGTH = 16;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final Mac macPrototype;
+    private final Duration expiryGrace;
+
+    public QrCodePayloadServiceImpl(
+            @Value("${ticketa.qr-code.signing-key:}") String signingKey,
+            @Value("${ticketa.qr-code.expiry-grace-hours:12}") long expiryGraceHours) throws GeneralSecurityException {
+        this.expiryGrace = Duration.ofHours(expiryGraceHours);
+        if (signingKey == null || signingKey.isBlank()) {
+            log.warn("No QR code signing key configured, issuing id-only QR codes");
+            this.macPrototype = null;
+            return;
+        }
+        byte[] key = Base64.getDecoder().decode(signingKey.trim());
+        if (key.length < 32) {
+            throw new IllegalStateException("ticketa.qr-code.signing-key must be at least 32 bytes, base64 encoded");
+        }
+        this.macPrototype = Mac.getInstance(ALGORITHM);
+        this.macPrototype.init(new SecretKeySpec(key, ALGORITHM));
+    }
+
+    @Override
+    public boolean isSigningEnabled() {
+        return macPrototype != null;
+    }
+
+    @Override
+    public String createPayload(Ticket ticket) {
+        if (!isSigningEnabled()) {
+            return null;
+        }
+        TicketType ticketType = ticket.getTicketType();
+        Event event = ticketType.getEvent();
+        Instant expiresAt = event.getEndDateTime().atZone(ZoneId.systemDefault()).toInstant().plus(expiryGrace);
+
+        ByteBuffer claims = ByteBuffer.allocate(CLAIMS_LENGTH);
+        putUuid(claims, ticket.getId());
+        putUuid(claims, event.getId());
+        putUuid(claims, ticketType.getId());
+        claims.putLong(expiresAt.getEpochSecond());
+
+        byte[] claimBytes = claims.array();
+        return PREFIX + ENCODER.encodeToString(claimBytes) + "." + ENCODER.encodeToString(sign(claimBytes));
+    }
+
+    @Override
+    public boolean isSignedPayload(String code) {
+        return code != null && code.startsWith(PREFIX);
+    }
+
+    @Override
+    public QrCodeClaims verifyPayload(String code) {
+        if (!isSigningEnabled() || !isSignedPayload(code)) {
+            throw new QrCodeNotFoundException("QR Code is not a signed payload");
+        }
+
+        int separator = code.indexOf('.', PREFIX.length());
+        byte[] claimBytes;
+        byte[] signature;
+        try {
+            claimBytes = DECODER.decode(code.substring(PREFIX.length(), separator));
+            signature = DECODER.decode(code.substring(separator + 1));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException ex) {
+            throw new QrCodeNotFoundException("Malformed QR Code payload", ex);
+        }
+
+        if (claimBytes.length != CLAIMS_LENGTH || !MessageDigest.isEqual(sign(claimBytes), signature)) {
+            throw new QrCodeNotFoundException("QR Code signature does not match");
+        }
+
+        ByteBuffer claims = ByteBuffer.wrap(claimBytes);
+        return new QrCodeClaims(
+                getUuid(claims),
+                getUuid(claims),
+                getUuid(claims),
+                Instant.ofEpochSecond(claims.getLong())
+        );
+    }
+
+    private byte[] sign(byte[] claims) {
+        try {
+            // Mac instances aren't thread safe, cloning the keyed prototype skips re-deriving the key
+            Mac mac = (Mac) macPrototype.clone();
+            mac.update(PREFIX.getBytes());
+            return Arrays.copyOf(mac.doFinal(claims), SIGNATURE_LENGTH);
+        } catch (CloneNotSupportedException ex) {
+            throw new IllegalStateException("HMAC implementation does not support cloning", ex);
+        }
+    }
+
+    private static void putUuid(ByteBuffer buffer, UUID uuid) {
+        buffer.putLong(uuid.getMostSignificantBits());
+        buffer.putLong(uuid.getLeastSignificantBits());
+    }
+
+    private static UUID getUuid(ByteBuffer buffer) {
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
@@ -5,27 +5,48 @@ import com.google.zxing.WriterException;
 import com.google.zxing.client.j2se.MatrixToImageWriter;
 import com.google.zxing.common.BitMatrix;
 import com.google.zxing.qrcode.QRCodeWriter;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
+import org.example.ticketabackened.config.ThreadBuilders;
 import org.example.ticketabackened.domain.entity.Ticket;
 import org.example.ticketabackened.domain.entity.TicketQRCode;
+import org.example.ticketabackened.domain.entity.UuidV7Generator;
 import org.example.ticketabackened.domain.enums.QrCodeStatus;
+import org.example.ticketabackened.domain.model.QrCodePayload;
+import org.example.ticketabackened.domain.model.QrCodesCreatedEvent;
 import org.example.ticketabackened.exceptionHandler.QrCodeGenerationException;
 import org.example.ticketabackened.exceptionHandler.QrCodeNotFoundException;
 import org.example.ticketabackened.repositories.QrCodeRepository;
+import org.example.ticketabackened.service.QrCodePayloadService;
 import org.example.ticketabackened.service.QrCodeService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.Base64;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * QR code rows are written with the ticket but without their PNG, so no image work happens inside
+ * the purchase transaction. Rows whose value is still null form the outbox: they are rendered by a
+ * bounded worker pool right after the purchase commits, by a periodic sweep for anything the pool
+ * dropped or a restart interrupted, or on demand when the buyer asks for the image first.
+ */
 @Service
-@RequiredArgsConstructor
 public class QrCodeServiceImpl implements QrCodeService {
 
     private static final int QR_CODE_WIDTH = 300;
@@ -36,22 +57,68 @@ public class QrCodeServiceImpl implements QrCodeService {
 
     private final QrCodeRepository qrCodeRepo;
 
+    private final QrCodePayloadService qrCodePayloadService;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ExecutorService renderExecutor;
+
+    private final int sweepBatchSize;
+
+    public QrCodeServiceImpl(
+            QRCodeWriter qrCodeWriter,
+            QrCodeRepository qrCodeRepo,
+            QrCodePayloadService qrCodePayloadService,
+            ApplicationEventPublisher eventPublisher,
+            ThreadBuilders threadBuilders,
+            @Value("${ticketa.qr-code.render-threads:2}") int renderThreads,
+            @Value("${ticketa.qr-code.render-queue-capacity:10000}") int renderQueueCapacity,
+            @Value("${ticketa.qr-code.sweep-batch-size:200}") int sweepBatchSize) {
+        this.qrCodeWriter = qrCodeWriter;
+        this.qrCodeRepo = qrCodeRepo;
+        this.qrCodePayloadService = qrCodePayloadService;
+        this.eventPublisher = eventPublisher;
+        this.sweepBatchSize = sweepBatchSize;
+        // Work rejected by a full queue is simply left for the sweep
+        this.renderExecutor = new ThreadPoolExecutor(
+                renderThreads, renderThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(renderQueueCapacity),
+                threadBuilders.factory("qr-code-render-"),
+                new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        renderExecutor.shutdown();
+    }
+
     @Override
     public TicketQRCode generateQRCode(Ticket ticket) {
-        try {
-            UUID id = UUID.randomUUID();
-            String qrCodeImage = generateQRCodeImage(id);
+        TicketQRCode qrCode = qrCodeRepo.saveAndFlush(buildQRCode(ticket));
+        eventPublisher.publishEvent(new QrCodesCreatedEvent(List.of(toPayload(qrCode))));
+        return qrCode;
+    }
 
-            TicketQRCode qrCode = new TicketQRCode();
-            qrCode.setId(id);
-            qrCode.setCodeStatus(QrCodeStatus.ACTIVE);
-            qrCode.setValue(qrCodeImage);
-            qrCode.setTicket(ticket);
+    @Override
+    public List<TicketQRCode> generateQRCodes(List<Ticket> tickets) {
+        List<TicketQRCode> qrCodes = qrCodeRepo.saveAll(tickets.stream().map(this::buildQRCode).toList());
+        eventPublisher.publishEvent(new QrCodesCreatedEvent(qrCodes.stream().map(this::toPayload).toList()));
+        return qrCodes;
+    }
 
-            return qrCodeRepo.saveAndFlush(qrCode);
+    @TransactionalEventListener(fallbackExecution = true)
+    void onQrCodesCreated(QrCodesCreatedEvent event) {
+        renderExecutor.execute(() -> renderQRCodes(event.getQrCodes()));
+    }
 
-        } catch (WriterException | IOException ex) {
-            throw new QrCodeGenerationException("Error while generating QR Code", ex);
+    @Scheduled(fixedDelayString = "${ticketa.qr-code.sweep-interval-ms:30000}")
+    void renderPendingQRCodes() {
+        // Skip codes young enough that their after-commit render is probably still queued
+        LocalDateTime before = LocalDateTime.now().minusMinutes(1);
+        List<QrCodePayload> pending = qrCodeRepo.findPending(before, PageRequest.of(0, sweepBatchSize));
+        if (!pending.isEmpty()) {
+            log.info("Rendering {} pending QR Codes", pending.size());
+            renderQRCodes(pending);
         }
     }
 
@@ -60,6 +127,16 @@ public class QrCodeServiceImpl implements QrCodeService {
         TicketQRCode qrCode = qrCodeRepo.findByTicketIdAndTicket_TicketBuyerId(ticketId, userId)
                 .orElseThrow(QrCodeNotFoundException::new);
 
+        if (qrCode.getValue() == null) {
+            try {
+                byte[] image = generateQRCodeImage(toPayload(qrCode).getContent());
+                qrCodeRepo.updatePendingValue(qrCode.getId(), Base64.getEncoder().encodeToString(image));
+                return image;
+            } catch (WriterException | IOException ex) {
+                throw new QrCodeGenerationException("Error while generating QR Code", ex);
+            }
+        }
+
         try {
             return Base64.getDecoder().decode(qrCode.getValue());
         } catch (IllegalArgumentException ex) {
@@ -68,9 +145,33 @@ public class QrCodeServiceImpl implements QrCodeService {
         }
     }
 
-    private String generateQRCodeImage(UUID id) throws WriterException, IOException {
+    private void renderQRCodes(List<QrCodePayload> qrCodes) {
+        for (QrCodePayload qrCode : qrCodes) {
+            try {
+                String image = Base64.getEncoder().encodeToString(generateQRCodeImage(qrCode.getContent()));
+                qrCodeRepo.updatePendingValue(qrCode.getQrCodeId(), image);
+            } catch (WriterException | IOException | RuntimeException ex) {
+                log.error("Failed to render QR Code {}, leaving it for the next sweep", qrCode.getQrCodeId(), ex);
+            }
+        }
+    }
+
+    private QrCodePayload toPayload(TicketQRCode qrCode) {
+        return new QrCodePayload(qrCode.getId(), qrCode.getPayload());
+    }
+
+    private TicketQRCode buildQRCode(Ticket ticket) {
+        TicketQRCode qrCode = new TicketQRCode();
+        qrCode.setId(UuidV7Generator.next());
+        qrCode.setCodeStatus(QrCodeStatus.ACTIVE);
+        qrCode.setPayload(qrCodePayloadService.createPayload(ticket));
+        qrCode.setTicket(ticket);
+        return qrCode;
+    }
+
+    private byte[] generateQRCodeImage(String content) throws WriterException, IOException {
         BitMatrix bitMatrix = qrCodeWriter.encode(
-                id.toString(),
+                content,
                 BarcodeFormat.QR_CODE,
                 QR_CODE_WIDTH,
                 QR_CODE_HEIGHT
@@ -78,8 +179,7 @@ public class QrCodeServiceImpl implements QrCodeService {
         BufferedImage qr_image = MatrixToImageWriter.toBufferedImage(bitMatrix);
         try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
             ImageIO.write(qr_image, "PNG", outputStream);
-            byte[] qr_image_bytes = outputStream.toByteArray();
-            return Base64.getEncoder().encodeToString(qr_image_bytes);
+            return outputStream.toByteArray();
         }
     }
 }
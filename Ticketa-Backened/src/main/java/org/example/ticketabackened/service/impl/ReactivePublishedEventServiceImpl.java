@@ -0,0 +1,53 @@
+package org.example.ticketabackened.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.example.ticketabackened.domain.entity.PublishedEventView;
+import org.example.ticketabackened.repositories.PublishedEventViewRepository;
+import org.example.ticketabackened.repositories.ReactivePublishedEventViewRepository;
+import org.example.ticketabackened.service.ReactivePublishedEventService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+// Same rows and ordering as PublishedEventServiceImpl, search always uses the view's search_vector
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ticketa.catalogue.reactive.enabled", havingValue = "true")
+public class ReactivePublishedEventServiceImpl implements ReactivePublishedEventService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final ReactivePublishedEventViewRepository reactivePublishedEventViewRepo;
+
+    @Override
+    public Flux<PublishedEventView> getPublishedEvents(int page, int size) {
+        int limit = limit(size);
+        return reactivePublishedEventViewRepo.findAll(offset(page, limit), limit);
+    }
+
+    @Override
+    public Flux<PublishedEventView> searchPublishedEvents(String query, int page, int size) {
+        String prefixQuery = PublishedEventViewRepository.toPrefixQuery(query);
+        if (prefixQuery.isEmpty()) {
+            return Flux.empty();
+        }
+        int limit = limit(size);
+        return reactivePublishedEventViewRepo.search(prefixQuery, offset(page, limit), limit);
+    }
+
+    @Override
+    public Mono<PublishedEventView> getPublishedEvent(UUID eventId) {
+        return reactivePublishedEventViewRepo.findById(eventId);
+    }
+
+    private static int limit(int size) {
+        return Math.clamp(size, 1, MAX_PAGE_SIZE);
+    }
+
+    private static long offset(int page, int limit) {
+        return (long) Math.max(page, 0) * limit;
+    }
+}
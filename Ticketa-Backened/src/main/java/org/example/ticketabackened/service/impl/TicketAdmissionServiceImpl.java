@@ -0,0 +1,373 @@
+package org.example.ticketabackened.service.impl;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.ticketabackened.config.ThreadBuilders;
+import org.example.ticketabackened.domain.entity.Event;
+import org.example.ticketabackened.domain.entity.Ticket;
+import org.example.ticketabackened.domain.entity.TicketValidation;
+import org.example.ticketabackened.domain.entity.User;
+import org.example.ticketabackened.domain.enums.EventStatus;
+import org.example.ticketabackened.domain.enums.TicketValidationMethod;
+import org.example.ticketabackened.domain.enums.TicketValidationStatus;
+import org.example.ticketabackened.domain.model.AdmissionTicket;
+import org.example.ticketabackened.repositories.EventRepository;
+import org.example.ticketabackened.repositories.TicketRepository;
+import org.example.ticketabackened.repositories.TicketValidationRepository;
+import org.example.ticketabackened.service.TicketAdmissionService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Keeps an admission index per running event: every ticket gets a dense ordinal and admitted tickets
+ * are bits in an {@link AtomicLongArray}. A set bit turns a repeat scan away without touching the
+ * database. A first scan is decided by the insert-on-conflict against the partial unique index, in
+ * the caller's transaction, so the gate only opens once the admission is durable and exactly once
+ * across gates, instances and the offline sync path; the bit is set after commit. Only the INVALID
+ * audit rows of refused scans are queued and written by one thread in batches; a batch that fails is
+ * written row by row and rows that still fail are retried after a backoff. An unknown or finished event
+ * gets an empty index that expires, so its scans don't look the event up each time.
+ */
+@Service
+@Slf4j
+public class TicketAdmissionServiceImpl implements TicketAdmissionService {
+
+    private final EventRepository eventRepo;
+    private final TicketRepository ticketRepo;
+    private final TicketValidationRepository ticketValidationRepo;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadBuilders threadBuilders;
+    private final int batchSize;
+    private final int maxWriteAttempts;
+    private final long retryBackoffMillis;
+    private final long preloadLeadMinutes;
+    private final long tombstoneTtlMillis;
+
+    private final BlockingQueue<PendingValidation> queue;
+    // A placeholder goes in before an index is built, so concurrent loads of one event share a single build
+    private final ConcurrentMap<UUID, CompletableFuture<EventAdmissionIndex>> indexes = new ConcurrentHashMap<>();
+    private volatile boolean running;
+    private Thread writer;
+
+    public TicketAdmissionServiceImpl(
+            EventRepository eventRepo,
+            TicketRepository ticketRepo,
+            TicketValidationRepository ticketValidationRepo,
+            TransactionTemplate transactionTemplate,
+            ThreadBuilders threadBuilders,
+            @Value("${ticketa.admission.batch-size:500}") int batchSize,
+            @Value("${ticketa.admission.queue-capacity:50000}") int queueCapacity,
+            @Value("${ticketa.admission.max-write-attempts:5}") int maxWriteAttempts,
+            @Value("${ticketa.admission.retry-backoff-ms:1000}") long retryBackoffMillis,
+            @Value("${ticketa.admission.preload-lead-minutes:120}") long preloadLeadMinutes,
+            @Value("${ticketa.admission.tombstone-ttl-ms:60000}") long tombstoneTtlMillis) {
+        this.eventRepo = eventRepo;
+        this.ticketRepo = ticketRepo;
+        this.ticketValidationRepo = ticketValidationRepo;
+        this.transactionTemplate = transactionTemplate;
+        this.threadBuilders = threadBuilders;
+        this.batchSize = batchSize;
+        this.maxWriteAttempts = maxWriteAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.preloadLeadMinutes = preloadLeadMinutes;
+        this.tombstoneTtlMillis = tombstoneTtlMillis;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        writer = threadBuilders.start("ticket-admission-writer", this::drainQueue);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    @Scheduled(fixedDelayString = "${ticketa.admission.preload-interval-ms:60000}")
+    void refreshIndexes() {
+        LocalDateTime now = LocalDateTime.now();
+        indexes.values().removeIf(loading -> loaded(loading).isExpired(now));
+        eventRepo.findIdsRunningBetween(EventStatus.PUBLISHED, now, now.plusMinutes(preloadLeadMinutes))
+                .forEach(this::loadEvent);
+    }
+
+    @Override
+    public void loadEvent(UUID eventId) {
+        CompletableFuture<EventAdmissionIndex> existing = indexes.get(eventId);
+        if (existing != null && loaded(existing).isExpired(LocalDateTime.now())) {
+            indexes.remove(eventId, existing);
+            existing = null;
+        }
+        CompletableFuture<EventAdmissionIndex> loading = null;
+        if (existing == null) {
+            loading = new CompletableFuture<>();
+            existing = indexes.putIfAbsent(eventId, loading);
+        }
+        if (existing != null) {
+            // Wait for the build under way instead of running its queries again, a failed build is its caller's
+            existing.exceptionally(ex -> null).join();
+            return;
+        }
+
+        // Built outside the map: loading inside computeIfAbsent would hold the map's lock (and pin a
+        // virtual thread) for the length of the queries
+        try {
+            Event event = eventRepo.findById(eventId).orElse(null);
+            LocalDateTime now = LocalDateTime.now();
+            if (event == null || event.getEndDateTime().isBefore(now)) {
+                loading.complete(EventAdmissionIndex.tombstone(now.plus(tombstoneTtlMillis, ChronoUnit.MILLIS)));
+                return;
+            }
+            EventAdmissionIndex index = buildIndex(event);
+            loading.complete(index);
+            log.info("Loaded admission index for event {} with {} tickets", eventId, index.buyerNames.length);
+        } catch (RuntimeException ex) {
+            indexes.remove(eventId, loading);
+            loading.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    @Override
+    public Optional<TicketValidation> admit(UUID ticketId, TicketValidationMethod method) {
+        for (CompletableFuture<EventAdmissionIndex> loading : indexes.values()) {
+            EventAdmissionIndex index = loaded(loading);
+            Integer ordinal = index.ordinals.get(ticketId);
+            if (ordinal == null) {
+                continue;
+            }
+            TicketValidationStatus status = TicketValidationStatus.INVALID;
+            if (!index.isAdmitted(ordinal)) {
+                if (ticketValidationRepo.saveIfFirstValid(toEntity(new PendingValidation(ticketId, method, TicketValidationStatus.VALID)))) {
+                    status = TicketValidationStatus.VALID;
+                    afterCommit(() -> index.tryAdmit(ordinal));
+                } else {
+                    // Admitted by another instance or the offline sync, and already committed there
+                    index.tryAdmit(ordinal);
+                }
+            }
+            if (status == TicketValidationStatus.INVALID) {
+                enqueue(new PendingValidation(ticketId, method, status));
+            }
+            return Optional.of(toValidation(ticketId, index.buyerNames[ordinal], method, status));
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public boolean isAdmitted(UUID ticketId) {
+        for (CompletableFuture<EventAdmissionIndex> loading : indexes.values()) {
+            EventAdmissionIndex index = loaded(loading);
+            Integer ordinal = index.ordinals.get(ticketId);
+            if (ordinal != null) {
+                return index.isAdmitted(ordinal);
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void markAdmitted(UUID ticketId) {
+        afterCommit(() -> {
+            for (CompletableFuture<EventAdmissionIndex> loading : indexes.values()) {
+                EventAdmissionIndex index = loaded(loading);
+                Integer ordinal = index.ordinals.get(ticketId);
+                if (ordinal != null) {
+                    index.tryAdmit(ordinal);
+                    return;
+                }
+            }
+        });
+    }
+
+    // An index still building (or one that failed) or a tombstone knows no tickets, its scans go to the database
+    private static EventAdmissionIndex loaded(CompletableFuture<EventAdmissionIndex> loading) {
+        EventAdmissionIndex index = loading.state() == Future.State.SUCCESS ? loading.resultNow() : null;
+        return index != null ? index : EventAdmissionIndex.UNLOADED;
+    }
+
+    private EventAdmissionIndex buildIndex(Event event) {
+        List<AdmissionTicket> tickets = ticketRepo.findAdmissionTicketsByEventId(event.getId());
+        EventAdmissionIndex index = new EventAdmissionIndex(event.getEndDateTime(), tickets);
+        // Scans so far went to the database; one committing after this read is still refused by its insert
+        markAdmitted(index, ticketValidationRepo.findTicketIdsByEventIdAndStatus(event.getId(), TicketValidationStatus.VALID));
+        return index;
+    }
+
+    private void markAdmitted(EventAdmissionIndex index, List<UUID> ticketIds) {
+        for (UUID ticketId : ticketIds) {
+            Integer ordinal = index.ordinals.get(ticketId);
+            if (ordinal != null) {
+                index.tryAdmit(ordinal);
+            }
+        }
+    }
+
+    private void enqueue(PendingValidation validation) {
+        if (running && queue.offer(validation)) {
+            return;
+        }
+        // Writer is backed up or stopping, keep the audit row by writing it on the caller's thread
+        transactionTemplate.executeWithoutResult(status -> writeBatch(List.of(validation)));
+    }
+
+    private void drainQueue() {
+        List<PendingValidation> batch = new ArrayList<>(batchSize);
+        List<PendingValidation> retries = new ArrayList<>();
+        long retryAt = 0;
+        while (running || !queue.isEmpty() || !retries.isEmpty()) {
+            try {
+                if (!retries.isEmpty() && (!running || System.currentTimeMillis() >= retryAt)) {
+                    batch.addAll(retries);
+                    retries.clear();
+                } else {
+                    PendingValidation first = queue.poll(100, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                }
+                try {
+                    transactionTemplate.executeWithoutResult(status -> writeBatch(batch));
+                } catch (RuntimeException ex) {
+                    log.warn("Failed to write {} ticket validations, writing them one by one", batch.size(), ex);
+                    writeEach(batch, retries);
+                    retryAt = System.currentTimeMillis() + retryBackoffMillis;
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // One bad row must not cost the rest of its batch; rows that still fail are kept for a later attempt
+    private void writeEach(List<PendingValidation> batch, List<PendingValidation> retries) {
+        for (PendingValidation pending : batch) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> writeBatch(List.of(pending)));
+            } catch (RuntimeException ex) {
+                if (pending.attempts() + 1 < maxWriteAttempts) {
+                    retries.add(pending.retried());
+                } else {
+                    log.error("Dropping validation of ticket {} after {} attempts", pending.ticketId(), maxWriteAttempts, ex);
+                }
+            }
+        }
+    }
+
+    private void writeBatch(List<PendingValidation> batch) {
+        ticketValidationRepo.saveAll(batch.stream().map(this::toEntity).toList());
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private TicketValidation toEntity(PendingValidation validation) {
+        return TicketValidation.builder()
+                .ticket(ticketRepo.getReferenceById(validation.ticketId()))
+                .validationMethod(validation.method())
+                .validationStatus(validation.status())
+                .build();
+    }
+
+    // Detached copy for the response, built from the index instead of reloading the ticket and buyer
+    private TicketValidation toValidation(UUID ticketId, String buyerName, TicketValidationMethod method,
+                                          TicketValidationStatus status) {
+        User buyer = new User();
+        buyer.setUsername(buyerName);
+        Ticket ticket = new Ticket();
+        ticket.setId(ticketId);
+        ticket.setTicketBuyer(buyer);
+        return TicketValidation.builder()
+                .ticket(ticket)
+                .validationMethod(method)
+                .validationStatus(status)
+                .build();
+    }
+
+    private record PendingValidation(UUID ticketId, TicketValidationMethod method, TicketValidationStatus status, int attempts) {
+
+        private PendingValidation(UUID ticketId, TicketValidationMethod method, TicketValidationStatus status) {
+            this(ticketId, method, status, 0);
+        }
+
+        private PendingValidation retried() {
+            return new PendingValidation(ticketId, method, status, attempts + 1);
+        }
+    }
+
+    private static final class EventAdmissionIndex {
+        private static final EventAdmissionIndex UNLOADED = new EventAdmissionIndex(LocalDateTime.MAX, List.of());
+
+        // Stands in for an event that needs no index until it expires, then the event is looked up again
+        private static EventAdmissionIndex tombstone(LocalDateTime expiresAt) {
+            return new EventAdmissionIndex(expiresAt, List.of());
+        }
+
+        private final LocalDateTime endDateTime;
+        private final Map<UUID, Integer> ordinals;
+        private final String[] buyerNames;
+        private final AtomicLongArray admitted;
+
+        private EventAdmissionIndex(LocalDateTime endDateTime, List<AdmissionTicket> tickets) {
+            this.endDateTime = endDateTime;
+            this.ordinals = HashMap.newHashMap(tickets.size());
+            this.buyerNames = new String[tickets.size()];
+            for (int i = 0; i < tickets.size(); i++) {
+                ordinals.put(tickets.get(i).getTicketId(), i);
+                buyerNames[i] = tickets.get(i).getBuyerName();
+            }
+            this.admitted = new AtomicLongArray((tickets.size() + 63) >>> 6);
+        }
+
+        private boolean isExpired(LocalDateTime now) {
+            return endDateTime.isBefore(now);
+        }
+
+        private boolean isAdmitted(int ordinal) {
+            return (admitted.get(ordinal >>> 6) & (1L << ordinal)) != 0;
+        }
+
+        private boolean tryAdmit(int ordinal) {
+            int word = ordinal >>> 6;
+            long mask = 1L << ordinal;
+            while (true) {
+                long current = admitted.get(word);
+                if ((current & mask) != 0) {
+                    return false;
+                }
+                if (admitted.compareAndSet(word, current, current | mask)) {
+                    return true;
+                }
+            }
+        }
+    }
+}
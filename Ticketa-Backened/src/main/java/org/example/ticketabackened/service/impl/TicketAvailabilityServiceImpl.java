@@ -0,0 +1,153 @@
+package org.example.ticketabackened.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.ticketabackened.domain.entity.PublishedEventView;
+import org.example.ticketabackened.mappers.EventMapper;
+import org.example.ticketabackened.repositories.PublishedEventViewRepository;
+import org.example.ticketabackened.service.PublishedEventService;
+import org.example.ticketabackened.service.TicketAvailabilityService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Streams remaining-ticket counts to browsers as server-sent events. An idle subscriber costs an open
+ * connection and no thread. Each push pass reads published_event_view once for every event that has
+ * subscribers. It sends only where a count changed, so a subscriber gets at most one update per
+ * interval however fast tickets sell. Purchases reach the view through PublishedEventProjectionService,
+ * which includes purchases made on other instances.
+ */
+@Service
+@Slf4j
+public class TicketAvailabilityServiceImpl implements TicketAvailabilityService {
+
+    private final PublishedEventService publishedEventService;
+    private final PublishedEventViewRepository publishedEventViewRepo;
+    private final EventMapper eventMapper;
+    private final ObjectMapper objectMapper;
+    private final long emitterTimeoutMillis;
+
+    private final ConcurrentMap<UUID, EventSubscribers> subscribers = new ConcurrentHashMap<>();
+    // A slow client blocks only its own send, not the push pass or the other subscribers
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+    public TicketAvailabilityServiceImpl(
+            PublishedEventService publishedEventService,
+            PublishedEventViewRepository publishedEventViewRepo,
+            EventMapper eventMapper,
+            ObjectMapper objectMapper,
+            @Value("${ticketa.availability.emitter-timeout-ms:1800000}") long emitterTimeoutMillis) {
+        this.publishedEventService = publishedEventService;
+        this.publishedEventViewRepo = publishedEventViewRepo;
+        this.eventMapper = eventMapper;
+        this.objectMapper = objectMapper;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+    }
+
+    @PreDestroy
+    void stop() {
+        subscribers.values().forEach(eventSubscribers -> eventSubscribers.emitters.forEach(SseEmitter::complete));
+        senders.shutdown();
+    }
+
+    @Override
+    public Optional<SseEmitter> subscribe(UUID eventId) {
+        // Cached, so a crowd subscribing at once does not reach the database
+        Optional<PublishedEventView> event = publishedEventService.getPublishedEvent(eventId);
+        if (event.isEmpty()) {
+            return Optional.empty();
+        }
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        EventSubscribers eventSubscribers = subscribers.compute(eventId, (id, existing) -> {
+            EventSubscribers current = existing == null ? new EventSubscribers() : existing;
+            current.emitters.add(emitter);
+            return current;
+        });
+        emitter.onCompletion(() -> unsubscribe(eventId, emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(ex -> unsubscribe(eventId, emitter));
+
+        // The last pushed counts can be newer than the cached event
+        String payload = eventSubscribers.lastPayload;
+        send(eventId, emitter, payload != null ? payload : render(event.get()));
+        return Optional.of(emitter);
+    }
+
+    @Scheduled(fixedDelayString = "${ticketa.availability.push-interval-ms:500}")
+    void push() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        Map<UUID, PublishedEventView> events = publishedEventViewRepo.findAllById(subscribers.keySet()).stream()
+                .collect(Collectors.toMap(PublishedEventView::getId, Function.identity()));
+
+        subscribers.forEach((eventId, eventSubscribers) -> {
+            PublishedEventView event = events.get(eventId);
+            if (event == null) {
+                // Unpublished or deleted, nothing more will be sent
+                eventSubscribers.emitters.forEach(SseEmitter::complete);
+                return;
+            }
+            String payload = render(event);
+            if (payload.equals(eventSubscribers.lastPayload)) {
+                return;
+            }
+            eventSubscribers.lastPayload = payload;
+            eventSubscribers.emitters.forEach(emitter -> send(eventId, emitter, payload));
+        });
+    }
+
+    // Keeps proxies from closing connections that have had nothing to say for a while
+    @Scheduled(fixedDelayString = "${ticketa.availability.heartbeat-interval-ms:25000}")
+    void heartbeat() {
+        subscribers.forEach((eventId, eventSubscribers) ->
+                eventSubscribers.emitters.forEach(emitter -> send(eventId, emitter, null)));
+    }
+
+    private void send(UUID eventId, SseEmitter emitter, String payload) {
+        senders.execute(() -> {
+            try {
+                if (payload == null) {
+                    emitter.send(SseEmitter.event().comment(""));
+                } else {
+                    emitter.send(SseEmitter.event().name("availability").data(payload, MediaType.APPLICATION_JSON));
+                }
+            } catch (IOException | IllegalStateException ex) {
+                // Client went away or the emitter already completed
+                unsubscribe(eventId, emitter);
+            }
+        });
+    }
+
+    private void unsubscribe(UUID eventId, SseEmitter emitter) {
+        subscribers.computeIfPresent(eventId, (id, eventSubscribers) -> {
+            eventSubscribers.emitters.remove(emitter);
+            return eventSubscribers.emitters.isEmpty() ? null : eventSubscribers;
+        });
+    }
+
+    private String render(PublishedEventView event) {
+        try {
+            return objectMapper.writeValueAsString(eventMapper.toTicketAvailabilityResponseDto(event));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize ticket availability", ex);
+        }
+    }
+
+    private static final class EventSubscribers {
+        private final Set<SseEmitter> emitters = ConcurrentHashMap.newKeySet();
+        private volatile String lastPayload;
+    }
+}
@@ -0,0 +1,149 @@
+package org.example.ticketabackened.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.example.ticketabackened.domain.entity.TicketType;
+import org.example.ticketabackened.domain.entity.TicketTypeShard;
+import org.example.ticketabackened.domain.model.TicketInventory;
+import org.example.ticketabackened.domain.model.TicketInventoryShard;
+import org.example.ticketabackened.exceptionHandler.TicketsSoldOutException;
+import org.example.ticketabackened.repositories.TicketTypeRepository;
+import org.example.ticketabackened.repositories.TicketTypeShardRepository;
+import org.example.ticketabackened.service.TicketInventoryService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Service
+@RequiredArgsConstructor
+public class TicketInventoryServiceImpl implements TicketInventoryService {
+
+    private final TicketTypeRepository ticketTypeRepo;
+    private final TicketTypeShardRepository shardRepo;
+
+    /**
+     * Splits the ticket type's stock across its configured number of shards. Tickets already sold
+     * stay on the shard that sold them and only the unsold remainder is redistributed, so this is
+     * safe to call on every update. Must run inside the caller's transaction.
+     */
+    @Override
+    @Transactional
+    public void configureInventory(TicketType ticketType) {
+        // Flash sale types keep their stock in memory and settle against the ticket type counter
+        int shardCount = ticketType.isFlashSale() ? 1 : Math.max(1, ticketType.getInventoryShards());
+        ticketType.setInventoryShards(shardCount);
+
+        // Lock the existing shards before the collection is touched so it is initialised from the locked rows
+        List<TicketTypeShard> existingShards = ticketType.getId() == null
+                ? List.of()
+                : shardRepo.findByTicketTypeIdWithLock(ticketType.getId());
+
+        if (shardCount == 1) {
+            if (!existingShards.isEmpty()) {
+                ticketType.setSoldTickets(existingShards.stream().mapToInt(TicketTypeShard::getSoldTickets).sum());
+                ticketType.getShards().clear();
+            }
+            return;
+        }
+
+        int[] soldPerShard = new int[shardCount];
+        if (existingShards.isEmpty() && ticketType.getId() != null) {
+            soldPerShard[0] = ticketTypeRepo.findSoldTicketsWithLock(ticketType.getId());
+        }
+        for (TicketTypeShard shard : existingShards) {
+            // Sales from shards that are being dropped are folded into the first shard
+            int index = shard.getShardIndex() < shardCount ? shard.getShardIndex() : 0;
+            soldPerShard[index] += shard.getSoldTickets();
+        }
+
+        int totalSold = 0;
+        for (int sold : soldPerShard) {
+            totalSold += sold;
+        }
+        int remaining = Math.max(0, ticketType.getAvailableTickets() - totalSold);
+
+        ticketType.getShards().removeIf(shard -> shard.getShardIndex() >= shardCount);
+        for (int index = 0; index < shardCount; index++) {
+            TicketTypeShard shard = findShard(ticketType, index);
+            if (shard == null) {
+                shard = new TicketTypeShard();
+                shard.setShardIndex(index);
+                shard.setTicketType(ticketType);
+                ticketType.getShards().add(shard);
+            }
+            int share = remaining / shardCount + (index < remaining % shardCount ? 1 : 0);
+            shard.setSoldTickets(soldPerShard[index]);
+            shard.setCapacity(soldPerShard[index] + share);
+        }
+    }
+
+    @Override
+    public boolean isSoldOut(TicketType ticketType, int quantity) {
+        if (ticketType.getInventoryShards() > 1) {
+            return shardRepo.sumRemainingTickets(ticketType.getId()) < quantity;
+        }
+        return ticketType.getSoldTickets() + quantity > ticketType.getAvailableTickets();
+    }
+
+    /**
+     * Takes {@code quantity} tickets from the ticket type's stock or throws {@link TicketsSoldOutException},
+     * in which case the caller's transaction rolls back anything already taken. Sharded types start at a
+     * random shard and fall through to the next one when it runs dry, so concurrent buyers spread their
+     * row locks across the shards. A quantity no single shard holds is split across them, locking the
+     * shards in index order.
+     */
+    @Override
+    @Transactional
+    public void reserveTickets(TicketType ticketType, int quantity) {
+        int shardCount = ticketType.getInventoryShards();
+        if (shardCount <= 1) {
+            if (ticketTypeRepo.addSoldTickets(ticketType.getId(), quantity) == 0) {
+                throw new TicketsSoldOutException();
+            }
+            return;
+        }
+
+        int start = ThreadLocalRandom.current().nextInt(shardCount);
+        for (int offset = 0; offset < shardCount; offset++) {
+            if (shardRepo.addSoldTickets(ticketType.getId(), (start + offset) % shardCount, quantity) == 1) {
+                return;
+            }
+        }
+
+        // No single shard holds the whole quantity, split it across shards in one statement
+        if (shardRepo.addSoldTicketsAcrossShards(ticketType.getId(), quantity) == 0) {
+            throw new TicketsSoldOutException();
+        }
+    }
+
+    @Override
+    public TicketInventory getInventory(TicketType ticketType) {
+        TicketInventory inventory = new TicketInventory();
+        inventory.setTicketTypeId(ticketType.getId());
+        inventory.setInventoryShards(ticketType.getInventoryShards());
+        inventory.setTotalTickets(ticketType.getAvailableTickets());
+
+        if (ticketType.getInventoryShards() <= 1) {
+            inventory.setSoldTickets(ticketType.getSoldTickets());
+            inventory.setRemainingTickets(Math.max(0, ticketType.getAvailableTickets() - ticketType.getSoldTickets()));
+            return inventory;
+        }
+
+        for (TicketTypeShard shard : shardRepo.findByTicketTypeIdOrderByShardIndex(ticketType.getId())) {
+            int shardRemaining = Math.max(0, shard.getCapacity() - shard.getSoldTickets());
+            inventory.getShards().add(new TicketInventoryShard(
+                    shard.getShardIndex(), shard.getCapacity(), shard.getSoldTickets(), shardRemaining));
+            inventory.setSoldTickets(inventory.getSoldTickets() + shard.getSoldTickets());
+            inventory.setRemainingTickets(inventory.getRemainingTickets() + shardRemaining);
+        }
+        return inventory;
+    }
+
+    private TicketTypeShard findShard(TicketType ticketType, int shardIndex) {
+        return ticketType.getShards().stream()
+                .filter(shard -> shard.getShardIndex() == shardIndex)
+                .findFirst()
+                .orElse(null);
+    }
+}
@@ -2,12 +2,16 @@ package org.example.ticketabackened.service.impl;
 
 import lombok.RequiredArgsConstructor;
 import org.example.ticketabackened.domain.entity.Ticket;
+import org.example.ticketabackened.domain.model.CursorPage;
+import org.example.ticketabackened.domain.model.PageCursor;
 import org.example.ticketabackened.repositories.TicketRepository;
 import org.example.ticketabackened.service.TicketService;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -22,6 +26,17 @@ public class TicketServiceImpl implements TicketService {
         return ticketRepo.findByTicketBuyerId(userId, pageable);
     }
 
+    @Override
+    public CursorPage<Ticket> getTicketsForUser(UUID userId, String cursor, int size) {
+        PageCursor after = PageCursor.decode(cursor);
+        int limit = CursorPage.limit(size);
+        Pageable firstRows = PageRequest.ofSize(limit + 1);
+        List<Ticket> tickets = after == null
+                ? ticketRepo.findByTicketBuyerIdOrderByCreatedAtDescIdDesc(userId, firstRows)
+                : ticketRepo.findByTicketBuyerIdBefore(userId, after.getSortKey(), after.getId(), firstRows);
+        return CursorPage.of(tickets, limit, ticket -> new PageCursor(ticket.getCreatedAt(), ticket.getId()));
+    }
+
     @Override
     public Optional<Ticket> getTicketForUser(UUID userId, UUID ticketId) {
         return ticketRepo.findByIdAndTicketBuyerId(ticketId, userId);
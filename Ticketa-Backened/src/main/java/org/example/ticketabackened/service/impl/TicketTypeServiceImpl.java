@@ -1,22 +1,34 @@
 package org.example.ticketabackened.service.impl;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.example.ticketabackened.domain.entity.Ticket;
 import org.example.ticketabackened.domain.entity.TicketType;
 import org.example.ticketabackened.domain.entity.User;
 import org.example.ticketabackened.domain.enums.TicketStatus;
+import org.example.ticketabackened.domain.model.TicketInventory;
+import org.example.ticketabackened.exceptionHandler.TicketPurchaseBusyException;
+import org.example.ticketabackened.exceptionHandler.TicketPurchaseLimitException;
 import org.example.ticketabackened.exceptionHandler.TicketTypeNotFoundException;
 import org.example.ticketabackened.exceptionHandler.TicketsSoldOutException;
 import org.example.ticketabackened.exceptionHandler.UserNotFoundException;
 import org.example.ticketabackened.repositories.TicketRepository;
 import org.example.ticketabackened.repositories.TicketTypeRepository;
 import org.example.ticketabackened.repositories.UserRepository;
+import org.example.ticketabackened.service.FlashSaleService;
+import org.example.ticketabackened.service.PublishedEventProjectionService;
 import org.example.ticketabackened.service.QrCodeService;
+import org.example.ticketabackened.service.TicketInventoryService;
 import org.example.ticketabackened.service.TicketTypeService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
@@ -26,32 +38,98 @@ public class TicketTypeServiceImpl implements TicketTypeService {
     private final TicketRepository ticketRepo;
     private final UserRepository userRepo;
     private final QrCodeService qrCodeService;
+    private final TicketInventoryService ticketInventoryService;
+    private final FlashSaleService flashSaleService;
+    private final PublishedEventProjectionService publishedEventProjectionService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${ticketa.purchase.max-quantity:10}")
+    private int maxPurchaseQuantity;
+
+    @Value("${ticketa.purchase.max-concurrent:6}")
+    private int maxConcurrentPurchases;
+
+    @Value("${ticketa.purchase.permit-timeout-ms:5000}")
+    private long purchasePermitTimeoutMillis;
+
+    // Buyers queue here rather than on the connection pool, so browsing keeps connections during an on-sale
+    private Semaphore purchasePermits;
+
+    @PostConstruct
+    void init() {
+        purchasePermits = new Semaphore(maxConcurrentPurchases, true);
+    }
 
     @Override
-    @Transactional
     public Ticket purchaseTicket(UUID userId, UUID ticketTypeId) {
+        return purchaseTickets(userId, ticketTypeId, 1).get(0);
+    }
+
+    @Override
+    public List<Ticket> purchaseTickets(UUID userId, UUID ticketTypeId, int quantity) {
+        if (quantity < 1 || quantity > maxPurchaseQuantity) {
+            throw new TicketPurchaseLimitException("quantity must be between 1 and " + maxPurchaseQuantity);
+        }
+
+        // Flash sale purchases wait on the batch writer, so they must not hold a connection while queued
+        if (flashSaleService.isFlashSale(ticketTypeId)) {
+            return flashSaleService.purchaseTickets(userId, ticketTypeId, quantity);
+        }
+        acquirePurchasePermit();
+        try {
+            return transactionTemplate.execute(status -> purchaseTicketsFromInventory(userId, ticketTypeId, quantity));
+        } finally {
+            purchasePermits.release();
+        }
+    }
+
+    private void acquirePurchasePermit() {
+        try {
+            if (!purchasePermits.tryAcquire(purchasePermitTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new TicketPurchaseBusyException("No purchase slot within " + purchasePermitTimeoutMillis + "ms");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new TicketPurchaseBusyException(ex);
+        }
+    }
+
+    private List<Ticket> purchaseTicketsFromInventory(UUID userId, UUID ticketTypeId, int quantity) {
         User user = userRepo.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException("user with id " + userId + " not found"));
 
-        TicketType ticketType = ticketTypeRepo.findByIdWithLock(ticketTypeId)
+        TicketType ticketType = ticketTypeRepo.findById(ticketTypeId)
                 .orElseThrow(() -> new TicketTypeNotFoundException("ticket type with id " + ticketTypeId + " not found"));
 
-        int purchasedTickets = ticketRepo.countByTicketTypeId(ticketType.getId());
-
-        int totalTickets = ticketType.getAvailableTickets();
-
-        if (purchasedTickets + 1 > totalTickets) {
+        if (ticketInventoryService.isSoldOut(ticketType, quantity)) {
             throw new TicketsSoldOutException();
         }
 
-        Ticket ticket = new Ticket();
-        ticket.setStatus(TicketStatus.PURCHASED);
-        ticket.setTicketType(ticketType);
-        ticket.setTicketBuyer(user);
+        List<Ticket> tickets = new ArrayList<>(quantity);
+        for (int i = 0; i < quantity; i++) {
+            Ticket ticket = new Ticket();
+            ticket.setStatus(TicketStatus.PURCHASED);
+            ticket.setTicketType(ticketType);
+            ticket.setTicketBuyer(user);
+            tickets.add(ticket);
+        }
 
-        Ticket savedTicket = ticketRepo.save(ticket);
-        qrCodeService.generateQRCode(savedTicket);
+        // Tickets and QR codes are flushed together as JDBC batches
+        List<Ticket> savedTickets = ticketRepo.saveAll(tickets);
+        qrCodeService.generateQRCodes(savedTickets);
+
+        // Reserve last so the inventory row is only locked between this update and commit
+        ticketInventoryService.reserveTickets(ticketType, quantity);
+        publishedEventProjectionService.inventoryChanged(ticketTypeId);
+
+        return savedTickets;
+    }
+
+    @Override
+    public TicketInventory getInventoryForOrganiser(UUID organiserId, UUID eventId, UUID ticketTypeId) {
+        TicketType ticketType = ticketTypeRepo.findByIdAndEvent_IdAndEvent_OrganizerId(ticketTypeId, eventId, organiserId)
+                .orElseThrow(() -> new TicketTypeNotFoundException("ticket type with id " + ticketTypeId + " not found"));
 
-        return ticketRepo.save(savedTicket);
+        return ticketInventoryService.getInventory(ticketType);
     }
 }
@@ -1,30 +1,58 @@
 package org.example.ticketabackened.service.impl;
 
 import jakarta.transaction.Transactional;
-import lombok.RequiredArgsConstructor;
 import org.example.ticketabackened.domain.entity.Ticket;
 import org.example.ticketabackened.domain.entity.TicketQRCode;
 import org.example.ticketabackened.domain.entity.TicketValidation;
 import org.example.ticketabackened.domain.enums.QrCodeStatus;
 import org.example.ticketabackened.domain.enums.TicketValidationMethod;
 import org.example.ticketabackened.domain.enums.TicketValidationStatus;
+import org.example.ticketabackened.domain.model.QrCodeClaims;
+import org.example.ticketabackened.domain.model.TicketScan;
 import org.example.ticketabackened.exceptionHandler.QrCodeNotFoundException;
 import org.example.ticketabackened.exceptionHandler.TicketNotFoundException;
 import org.example.ticketabackened.repositories.QrCodeRepository;
 import org.example.ticketabackened.repositories.TicketRepository;
 import org.example.ticketabackened.repositories.TicketValidationRepository;
+import org.example.ticketabackened.service.QrCodePayloadService;
+import org.example.ticketabackened.service.TicketAdmissionService;
 import org.example.ticketabackened.service.TicketValidationService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import java.util.UUID;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Service
-@RequiredArgsConstructor
 @Transactional
 public class TicketValidationServiceImpl implements TicketValidationService {
 
     private final TicketValidationRepository ticketValidationRepo;
     private final TicketRepository ticketRepo;
     private final QrCodeRepository qrCodeRepo;
+    private final QrCodePayloadService qrCodePayloadService;
+    private final TicketAdmissionService ticketAdmissionService;
+    private final long earlyScanMinutes;
+
+    public TicketValidationServiceImpl(
+            TicketValidationRepository ticketValidationRepo,
+            TicketRepository ticketRepo,
+            QrCodeRepository qrCodeRepo,
+            QrCodePayloadService qrCodePayloadService,
+            TicketAdmissionService ticketAdmissionService,
+            @Value("${ticketa.validation.early-scan-minutes:180}") long earlyScanMinutes) {
+        this.ticketValidationRepo = ticketValidationRepo;
+        this.ticketRepo = ticketRepo;
+        this.qrCodeRepo = qrCodeRepo;
+        this.qrCodePayloadService = qrCodePayloadService;
+        this.ticketAdmissionService = ticketAdmissionService;
+        this.earlyScanMinutes = earlyScanMinutes;
+    }
 
     @Override
     public TicketValidation validateTicketByQrCode(UUID qrCodeId) {
@@ -34,22 +62,196 @@ public class TicketValidationServiceImpl implements TicketValidationService {
         return validate(qrCode.getTicket(), TicketValidationMethod.QR_SCAN);
     }
 
+    @Override
+    public TicketValidation validateTicketByQrPayload(String code, UUID eventId) {
+        if (eventId != null) {
+            ticketAdmissionService.loadEvent(eventId);
+        }
+        if (!qrCodePayloadService.isSignedPayload(code)) {
+            UUID qrCodeId;
+            try {
+                qrCodeId = UUID.fromString(code.trim());
+            } catch (IllegalArgumentException ex) {
+                throw new QrCodeNotFoundException("QR Code not recognised: " + code, ex);
+            }
+            return validateTicketByQrCode(qrCodeId);
+        }
+
+        // The signature vouches for the ticket, so no QR code or ticket lookup is needed
+        QrCodeClaims claims = qrCodePayloadService.verifyPayload(code);
+        if (eventId == null) {
+            ticketAdmissionService.loadEvent(claims.getEventId());
+        }
+        Ticket ticket = ticketRepo.getReferenceById(claims.getTicketId());
+
+        if (eventId != null && !eventId.equals(claims.getEventId())) {
+            return record(ticket, TicketValidationMethod.QR_SCAN, TicketValidationStatus.INVALID);
+        }
+        if (claims.getExpiresAt().isBefore(Instant.now())) {
+            return record(ticket, TicketValidationMethod.QR_SCAN, TicketValidationStatus.EXPIRED);
+        }
+        return validate(ticket, TicketValidationMethod.QR_SCAN);
+    }
+
     @Override
     public TicketValidation validateTicketManually(UUID ticketId) {
+        Optional<TicketValidation> admitted = ticketAdmissionService.admit(ticketId, TicketValidationMethod.MANUAL);
+        if (admitted.isPresent()) {
+            return admitted.get();
+        }
         Ticket ticket = ticketRepo.findById(ticketId)
                 .orElseThrow(() -> new TicketNotFoundException("Ticket not found: " + ticketId));
 
         return validate(ticket, TicketValidationMethod.MANUAL);
     }
 
+    @Override
+    public List<TicketValidation> validateTickets(UUID eventId, List<TicketScan> scans) {
+        LocalDateTime now = LocalDateTime.now();
+        int size = scans.size();
+        UUID[] ticketIds = new UUID[size];
+        LocalDateTime[] scannedAt = new LocalDateTime[size];
+        TicketValidationStatus[] statuses = new TicketValidationStatus[size];
+
+        Map<Integer, UUID> qrCodeIds = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            TicketScan scan = scans.get(i);
+            // Device clocks run ahead; a scan can't have happened later than its sync
+            scannedAt[i] = scan.getScannedAt() == null || scan.getScannedAt().isAfter(now) ? now : scan.getScannedAt();
+            if (TicketValidationMethod.MANUAL.equals(scan.getMethod())) {
+                ticketIds[i] = scan.getId();
+            } else if (scan.getCode() != null && qrCodePayloadService.isSignedPayload(scan.getCode())) {
+                try {
+                    QrCodeClaims claims = qrCodePayloadService.verifyPayload(scan.getCode());
+                    ticketIds[i] = claims.getTicketId();
+                    if (claims.getExpiresAt().isBefore(scannedAt[i].atZone(ZoneId.systemDefault()).toInstant())) {
+                        statuses[i] = TicketValidationStatus.EXPIRED;
+                    }
+                } catch (QrCodeNotFoundException ex) {
+                    statuses[i] = TicketValidationStatus.INVALID;
+                }
+            } else {
+                UUID qrCodeId = parseUuid(scan.getCode(), scan.getId());
+                if (qrCodeId == null) {
+                    statuses[i] = TicketValidationStatus.INVALID;
+                } else {
+                    qrCodeIds.put(i, qrCodeId);
+                }
+            }
+        }
+
+        if (!qrCodeIds.isEmpty()) {
+            Map<UUID, UUID> ticketIdsByQrCode = qrCodeRepo.findByIdInAndCodeStatus(qrCodeIds.values(), QrCodeStatus.ACTIVE)
+                    .stream()
+                    .collect(Collectors.toMap(TicketQRCode::getId, qrCode -> qrCode.getTicket().getId()));
+            qrCodeIds.forEach((i, qrCodeId) -> ticketIds[i] = ticketIdsByQrCode.get(qrCodeId));
+        }
+
+        Set<UUID> scannedTicketIds = Arrays.stream(ticketIds).filter(Objects::nonNull).collect(Collectors.toSet());
+        Map<UUID, Ticket> tickets = ticketRepo.findByIdIn(scannedTicketIds).stream()
+                .collect(Collectors.toMap(Ticket::getId, Function.identity()));
+        Map<UUID, TicketValidation> admissions = ticketValidationRepo
+                .findByTicketIdInAndValidationStatus(tickets.keySet(), TicketValidationStatus.VALID)
+                .stream()
+                .collect(Collectors.toMap(validation -> validation.getTicket().getId(), Function.identity(), (a, b) -> a));
+
+        // Earliest scan of a ticket is its admission, even when another device already synced a later one
+        List<UUID> overturned = new ArrayList<>();
+        Set<UUID> resolved = new HashSet<>();
+        List<Integer> byScanTime = IntStream.range(0, size).boxed()
+                .sorted(Comparator.comparing(i -> scannedAt[i]))
+                .toList();
+        for (int i : byScanTime) {
+            Ticket ticket = ticketIds[i] == null ? null : tickets.get(ticketIds[i]);
+            if (statuses[i] != null) {
+                continue;
+            }
+            // A scan from before the doors could open is a wrong or forged clock, it must not overturn an admission
+            if (ticket == null
+                    || (eventId != null && !eventId.equals(ticket.getTicketType().getEvent().getId()))
+                    || scannedAt[i].isBefore(ticket.getTicketType().getEvent().getStartDateTime().minusMinutes(earlyScanMinutes))
+                    || !resolved.add(ticket.getId())) {
+                statuses[i] = TicketValidationStatus.INVALID;
+                continue;
+            }
+
+            TicketValidation admission = admissions.get(ticket.getId());
+            if (admission == null) {
+                statuses[i] = ticketAdmissionService.isAdmitted(ticket.getId())
+                        ? TicketValidationStatus.INVALID
+                        : TicketValidationStatus.VALID;
+            } else if (scannedAt[i].isBefore(Objects.requireNonNullElse(admission.getScannedAt(), admission.getCreatedAt()))) {
+                overturned.add(admission.getId());
+                statuses[i] = TicketValidationStatus.VALID;
+            } else {
+                statuses[i] = TicketValidationStatus.INVALID;
+            }
+        }
+        if (!overturned.isEmpty()) {
+            ticketValidationRepo.updateValidationStatus(overturned, TicketValidationStatus.INVALID, now);
+        }
+
+        List<TicketValidation> results = new ArrayList<>(size);
+        List<TicketValidation> rows = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Ticket ticket = ticketIds[i] == null ? null : tickets.get(ticketIds[i]);
+            TicketValidation validation = TicketValidation.builder()
+                    .ticket(ticket)
+                    .validationMethod(scans.get(i).getMethod())
+                    .validationStatus(statuses[i])
+                    .scannedAt(scannedAt[i])
+                    .build();
+            results.add(validation);
+            // Scans that never resolved to a ticket have nothing to audit against
+            if (ticket == null) {
+                continue;
+            }
+            if (statuses[i] != TicketValidationStatus.VALID) {
+                rows.add(validation);
+            } else if (ticketValidationRepo.saveIfFirstValid(validation)) {
+                ticketAdmissionService.markAdmitted(ticket.getId());
+            } else {
+                // A live scan or another device admitted the ticket since it was read above
+                validation.setValidationStatus(TicketValidationStatus.INVALID);
+                rows.add(validation);
+            }
+        }
+        ticketValidationRepo.saveAll(rows);
+        return results;
+    }
+
+    private UUID parseUuid(String code, UUID fallback) {
+        if (code == null) {
+            return fallback;
+        }
+        try {
+            return UUID.fromString(code.trim());
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
     private TicketValidation validate(Ticket ticket, TicketValidationMethod method) {
-        boolean alreadyValidated = ticket.getTicketValidations().stream()
-                .anyMatch(v -> v.getValidationStatus() == TicketValidationStatus.VALID);
+        Optional<TicketValidation> admitted = ticketAdmissionService.admit(ticket.getId(), method);
+        if (admitted.isPresent()) {
+            return admitted.get();
+        }
+
+        TicketValidation validation = TicketValidation.builder()
+                .ticket(ticket)
+                .validationMethod(method)
+                .build();
+        if (ticketValidationRepo.saveIfFirstValid(validation)) {
+            return validation;
+        }
+        return record(ticket, method, TicketValidationStatus.INVALID);
+    }
 
+    private TicketValidation record(Ticket ticket, TicketValidationMethod method, TicketValidationStatus status) {
         TicketValidation validation = TicketValidation.builder()
                 .ticket(ticket)
                 .validationMethod(method)
-                .validationStatus(alreadyValidated ? TicketValidationStatus.INVALID : TicketValidationStatus.VALID)
+                .validationStatus(status)
                 .build();
 
         return ticketValidationRepo.save(validation);
@@ -0,0 +1,115 @@
+package org.example.ticketabackened.service.impl;
+
+import org.example.ticketabackened.domain.enums.QrCodeStatus;
+import org.example.ticketabackened.domain.enums.TicketStatus;
+import org.example.ticketabackened.domain.enums.TicketValidationStatus;
+import org.example.ticketabackened.exceptionHandler.EventNotFoundException;
+import org.example.ticketabackened.repositories.EventRepository;
+import org.example.ticketabackened.repositories.QrCodeRepository;
+import org.example.ticketabackened.repositories.TicketRepository;
+import org.example.ticketabackened.repositories.TicketValidationRepository;
+import org.example.ticketabackened.service.ValidationSnapshotService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.*;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Service
+public class ValidationSnapshotServiceImpl implements ValidationSnapshotService {
+
+    private static final int MAGIC = 0x544B5331;
+    private static final byte VALID_TICKETS = 1;
+    private static final byte ACTIVE_QR_CODES = 2;
+    private static final byte ADMITTED_TICKETS = 3;
+    private static final byte REVOKED_TICKETS = 4;
+    private static final byte REVOKED_QR_CODES = 5;
+    private static final byte UNADMITTED_TICKETS = 6;
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final EventRepository eventRepo;
+    private final TicketRepository ticketRepo;
+    private final QrCodeRepository qrCodeRepo;
+    private final TicketValidationRepository ticketValidationRepo;
+    private final long overlapSeconds;
+
+    public ValidationSnapshotServiceImpl(
+            EventRepository eventRepo,
+            TicketRepository ticketRepo,
+            QrCodeRepository qrCodeRepo,
+            TicketValidationRepository ticketValidationRepo,
+            @Value("${ticketa.validation.snapshot-overlap-seconds:30}") long overlapSeconds) {
+        this.eventRepo = eventRepo;
+        this.ticketRepo = ticketRepo;
+        this.qrCodeRepo = qrCodeRepo;
+        this.ticketValidationRepo = ticketValidationRepo;
+        this.overlapSeconds = overlapSeconds;
+    }
+
+    // Repeatable read so section counts and the streamed ids come from the same snapshot
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public void writeSnapshot(UUID eventId, Long since, OutputStream outputStream) {
+        if (!eventRepo.existsById(eventId)) {
+            throw new EventNotFoundException("Event with id " + eventId + " not found");
+        }
+
+        long version = System.currentTimeMillis();
+        boolean full = since == null;
+        // Rows are stamped before their transaction commits, so deltas reach back past the last version
+        LocalDateTime changedAfter = full
+                ? BEGINNING
+                : LocalDateTime.ofInstant(Instant.ofEpochMilli(since), ZoneId.systemDefault()).minusSeconds(overlapSeconds);
+        List<TicketStatus> valid = List.of(TicketStatus.PURCHASED);
+        List<TicketStatus> revoked = List.of(TicketStatus.CANCELLED);
+
+        try {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(outputStream, 64 * 1024));
+            out.writeInt(MAGIC);
+            out.writeLong(version);
+            out.writeByte(full ? 1 : 0);
+
+            writeSection(out, VALID_TICKETS,
+                    ticketRepo.countIdsForSnapshot(eventId, valid, changedAfter),
+                    ticketRepo.streamIdsForSnapshot(eventId, valid, changedAfter));
+            writeSection(out, ACTIVE_QR_CODES,
+                    qrCodeRepo.countIdsForSnapshot(eventId, QrCodeStatus.ACTIVE, changedAfter),
+                    qrCodeRepo.streamIdsForSnapshot(eventId, QrCodeStatus.ACTIVE, changedAfter));
+            writeSection(out, ADMITTED_TICKETS,
+                    ticketValidationRepo.countTicketIdsForSnapshot(eventId, TicketValidationStatus.VALID, changedAfter),
+                    ticketValidationRepo.streamTicketIdsForSnapshot(eventId, TicketValidationStatus.VALID, changedAfter));
+            if (!full) {
+                writeSection(out, REVOKED_TICKETS,
+                        ticketRepo.countIdsForSnapshot(eventId, revoked, changedAfter),
+                        ticketRepo.streamIdsForSnapshot(eventId, revoked, changedAfter));
+                writeSection(out, REVOKED_QR_CODES,
+                        qrCodeRepo.countIdsForSnapshot(eventId, QrCodeStatus.EXPIRED, changedAfter),
+                        qrCodeRepo.streamIdsForSnapshot(eventId, QrCodeStatus.EXPIRED, changedAfter));
+                writeSection(out, UNADMITTED_TICKETS,
+                        ticketValidationRepo.countDemotedTicketIdsForSnapshot(eventId, TicketValidationStatus.VALID, changedAfter),
+                        ticketValidationRepo.streamDemotedTicketIdsForSnapshot(eventId, TicketValidationStatus.VALID, changedAfter));
+            }
+            out.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void writeSection(DataOutputStream out, byte kind, long count, Stream<UUID> ids) throws IOException {
+        out.writeByte(kind);
+        out.writeInt(Math.toIntExact(count));
+        try (ids) {
+            for (UUID id : (Iterable<UUID>) ids::iterator) {
+                out.writeLong(id.getMostSignificantBits());
+                out.writeLong(id.getLeastSignificantBits());
+            }
+        }
+    }
+}
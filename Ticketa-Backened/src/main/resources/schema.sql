@@ -0,0 +1,58 @@
+-- Runs after Hibernate's ddl-auto update (see spring.jpa.defer-datasource-initialization).
+-- Every statement here must be idempotent.
+
+-- Ticket type inventory counter, backfilled once from the tickets already sold
+ALTER TABLE ticket_type ADD COLUMN IF NOT EXISTS sold_tickets integer;
+UPDATE ticket_type tt
+SET sold_tickets = (SELECT count(*) FROM ticket t WHERE t.ticket_type_id = tt.id)
+WHERE tt.sold_tickets IS NULL;
+ALTER TABLE ticket_type ALTER COLUMN sold_tickets SET DEFAULT 0;
+ALTER TABLE ticket_type ALTER COLUMN sold_tickets SET NOT NULL;
+
+-- Optional inventory sharding, unsharded (1) for ticket types created before it existed
+ALTER TABLE ticket_type ADD COLUMN IF NOT EXISTS inventory_shards integer;
+UPDATE ticket_type SET inventory_shards = 1 WHERE inventory_shards IS NULL;
+ALTER TABLE ticket_type ALTER COLUMN inventory_shards SET DEFAULT 1;
+ALTER TABLE ticket_type ALTER COLUMN inventory_shards SET NOT NULL;
+
+-- Flash sale mode, off for ticket types created before it existed
+ALTER TABLE ticket_type ADD COLUMN IF NOT EXISTS flash_sale boolean;
+UPDATE ticket_type SET flash_sale = false WHERE flash_sale IS NULL;
+ALTER TABLE ticket_type ALTER COLUMN flash_sale SET DEFAULT false;
+ALTER TABLE ticket_type ALTER COLUMN flash_sale SET NOT NULL;
+
+-- QR code images are rendered after the purchase commits; rows without one are the render outbox
+ALTER TABLE ticket_qr_code ALTER COLUMN value DROP NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_ticket_qr_code_pending ON ticket_qr_code (created_at) WHERE value IS NULL;
+
+-- Offline validation snapshots walk an event's tickets, QR codes and admissions in id order
+CREATE INDEX IF NOT EXISTS idx_ticket_ticket_type ON ticket (ticket_type_id, id);
+CREATE INDEX IF NOT EXISTS idx_ticket_qr_code_ticket ON ticket_qr_code (ticket_id);
+CREATE INDEX IF NOT EXISTS idx_ticket_validation_ticket ON ticket_validation (ticket_id, validation_status);
+
+-- At most one VALID validation per ticket, first admission wins through INSERT ... ON CONFLICT.
+-- Duplicates left by earlier concurrent scans keep the oldest admission.
+UPDATE ticket_validation v
+SET validation_status = 'INVALID'
+WHERE v.validation_status = 'VALID'
+  AND EXISTS (SELECT 1 FROM ticket_validation o
+              WHERE o.ticket_id = v.ticket_id
+                AND o.validation_status = 'VALID'
+                AND (o.created_at, o.id) < (v.created_at, v.id));
+CREATE UNIQUE INDEX IF NOT EXISTS uq_ticket_validation_valid ON ticket_validation (ticket_id) WHERE validation_status = 'VALID';
+
+-- Keyset pagination: published and organiser listings by (start, id), a buyer's tickets newest first
+CREATE INDEX IF NOT EXISTS idx_events_status_start ON events (event_status, start_date_time, id);
+CREATE INDEX IF NOT EXISTS idx_events_organizer_start ON events (organizer_id, start_date_time, id);
+CREATE INDEX IF NOT EXISTS idx_ticket_buyer_created ON ticket (ticket_buyer_id, created_at DESC, id DESC);
+
+-- Catalogue view: start-date paging and sort, venue and price filters, full-text search (names weigh more)
+CREATE INDEX IF NOT EXISTS idx_published_event_view_start ON published_event_view (start_date_time, id);
+CREATE INDEX IF NOT EXISTS idx_published_event_view_venue ON published_event_view (lower(venue), start_date_time);
+CREATE INDEX IF NOT EXISTS idx_published_event_view_price ON published_event_view (min_price, max_price);
+ALTER TABLE published_event_view ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', coalesce(event_name, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(venue, '')), 'B')
+    ) STORED;
+CREATE INDEX IF NOT EXISTS idx_published_event_view_search ON published_event_view USING gin (search_vector);
@@ -0,0 +1,51 @@
+package org.example.ticketabackened;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Runs a test class against a real Postgres: a Testcontainers container shared by every test class,
+ * or the database in TEST_DATABASE_URL (TEST_DATABASE_USER, TEST_DATABASE_PASSWORD) where Docker
+ * isn't available. Skipped when there is neither. Tables are shared, so tests create their own rows.
+ */
+public abstract class PostgresIntegrationTest {
+
+    private static PostgreSQLContainer<?> container;
+
+    @BeforeAll
+    static void requireDatabase() {
+        assumeTrue(System.getenv("TEST_DATABASE_URL") != null || DockerClientFactory.instance().isDockerAvailable(),
+                "Needs Docker or TEST_DATABASE_URL");
+    }
+
+    @DynamicPropertySource
+    static void databaseProperties(DynamicPropertyRegistry registry) {
+        String url = System.getenv("TEST_DATABASE_URL");
+        String username = System.getenv().getOrDefault("TEST_DATABASE_USER", "postgres");
+        String password = System.getenv().getOrDefault("TEST_DATABASE_PASSWORD", "");
+        if (url == null) {
+            PostgreSQLContainer<?> postgres = startContainer();
+            url = postgres.getJdbcUrl();
+            username = postgres.getUsername();
+            password = postgres.getPassword();
+        }
+        String jdbcUrl = url;
+        registry.add("spring.datasource.url", () -> jdbcUrl);
+        registry.add("spring.datasource.username", username::toString);
+        registry.add("spring.datasource.password", password::toString);
+        registry.add("ticketa.catalogue.reactive.url", () -> jdbcUrl.replaceFirst("^jdbc:", "r2dbc:"));
+    }
+
+    private static synchronized PostgreSQLContainer<?> startContainer() {
+        if (container == null) {
+            container = new PostgreSQLContainer<>("postgres:16-alpine");
+            container.start();
+        }
+        return container;
+    }
+}
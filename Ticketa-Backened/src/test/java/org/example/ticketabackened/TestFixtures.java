@@ -0,0 +1,51 @@
+package org.example.ticketabackened;
+
+import lombok.RequiredArgsConstructor;
+import org.example.ticketabackened.domain.entity.Event;
+import org.example.ticketabackened.domain.entity.User;
+import org.example.ticketabackened.domain.enums.EventStatus;
+import org.example.ticketabackened.domain.model.EventCreationRequest;
+import org.example.ticketabackened.domain.model.TicketTypeCreationRequest;
+import org.example.ticketabackened.repositories.UserRepository;
+import org.example.ticketabackened.service.EventService;
+import org.springframework.boot.test.context.TestComponent;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+// Rows for integration tests, each with fresh ids so tests can share a database; @Import it
+@TestComponent
+@RequiredArgsConstructor
+public class TestFixtures {
+
+    private final UserRepository userRepo;
+    private final EventService eventService;
+
+    public User user() {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setUsername("user-" + user.getId());
+        user.setEmail(user.getId() + "@example.com");
+        return userRepo.save(user);
+    }
+
+    public Event publishedEvent(User organiser, LocalDateTime start, String venue, TicketTypeCreationRequest... ticketTypes) {
+        EventCreationRequest request = new EventCreationRequest();
+        request.setEventName("Event " + UUID.randomUUID());
+        request.setStartDateTime(start);
+        request.setEndDateTime(start.plusHours(4));
+        request.setVenue(venue);
+        request.setStatus(EventStatus.PUBLISHED);
+        request.setTicketTypes(List.of(ticketTypes));
+        return eventService.createEvent(organiser.getId(), request);
+    }
+
+    public Event publishedEvent(User organiser, TicketTypeCreationRequest... ticketTypes) {
+        return publishedEvent(organiser, LocalDateTime.now().plusDays(7), "Test Hall", ticketTypes);
+    }
+
+    public static TicketTypeCreationRequest ticketType(String name, double price, int capacity, boolean flashSale) {
+        return new TicketTypeCreationRequest(name, name + " ticket", price, capacity, 1, flashSale);
+    }
+}
@@ -0,0 +1,104 @@
+package org.example.ticketabackened.config;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Time per request spent turning a bearer token into an authentication, with and without
+ * VerifiedJwtCache: RS256 signature check, claim validation and role mapping, as JwtDecoderConfig and
+ * JwtAuthenticationConverter wire them. The key is local, so the JWK set fetch (cached in production
+ * as well) is left out. A few hundred users send their tokens in turn. Run with
+ * {@code mvn test -Pbenchmark}.
+ */
+@Slf4j
+@Tag("benchmark")
+class JwtDecodeBenchmarkTest {
+
+    private static final String ISSUER = "http://localhost:9090/realms/ticketa";
+    private static final int USERS = 300;
+    private static final int WARMUP_REQUESTS = 50_000;
+    private static final int REQUESTS = 200_000;
+
+    @Test
+    void cachedDecodeAndConversion() throws Exception {
+        KeyPair keys = KeyPairGenerator.getInstance("RSA").generateKeyPair();
+        NimbusJwtDecoder verifier = NimbusJwtDecoder.withPublicKey((RSAPublicKey) keys.getPublic()).build();
+        verifier.setJwtValidator(JwtValidators.createDefaultWithIssuer(ISSUER));
+        List<String> tokens = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            tokens.add(sign(keys));
+        }
+
+        // Nothing is put in this cache, so every request verifies and maps the roles again
+        VerifiedJwtCache emptyCache = new VerifiedJwtCache(100_000, 300);
+        JwtDecoder uncachedDecoder = verifier::decode;
+        JwtAuthenticationConverter uncachedConverter = new JwtAuthenticationConverter(emptyCache);
+
+        VerifiedJwtCache cache = new VerifiedJwtCache(100_000, 300);
+        JwtDecoder cachedDecoder = token -> cache.get(token, verifier::decode);
+        JwtAuthenticationConverter cachedConverter = new JwtAuthenticationConverter(cache);
+
+        run(tokens, uncachedDecoder, uncachedConverter, WARMUP_REQUESTS);
+        run(tokens, cachedDecoder, cachedConverter, WARMUP_REQUESTS);
+        double uncached = run(tokens, uncachedDecoder, uncachedConverter, REQUESTS);
+        double cached = run(tokens, cachedDecoder, cachedConverter, REQUESTS);
+        log.info("JWT decode and conversion, uncached: {} us/request", String.format("%.2f", uncached));
+        log.info("JWT decode and conversion, cached: {} us/request", String.format("%.2f", cached));
+
+        JwtAuthenticationToken viaCache = cachedConverter.convert(cachedDecoder.decode(tokens.getFirst()));
+        JwtAuthenticationToken direct = uncachedConverter.convert(uncachedDecoder.decode(tokens.getFirst()));
+        assertThat(viaCache.getAuthorities()).isEqualTo(direct.getAuthorities()).isNotEmpty();
+        assertThat(viaCache.getName()).isEqualTo(direct.getName());
+        assertThat(cached).isLessThan(uncached);
+    }
+
+    // Microseconds per request
+    private static double run(List<String> tokens, JwtDecoder decoder, JwtAuthenticationConverter converter, int requests) {
+        long start = System.nanoTime();
+        int granted = 0;
+        for (int i = 0; i < requests; i++) {
+            granted += converter.convert(decoder.decode(tokens.get(i % tokens.size()))).getAuthorities().size();
+        }
+        long elapsed = System.nanoTime() - start;
+        assertThat(granted).isPositive();
+        return elapsed / 1_000.0 / requests;
+    }
+
+    private static String sign(KeyPair keys) throws JOSEException {
+        Instant now = Instant.now();
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .issuer(ISSUER)
+                .subject(UUID.randomUUID().toString())
+                .issueTime(Date.from(now))
+                .expirationTime(Date.from(now.plusSeconds(3600)))
+                .claim("preferred_username", "user-" + UUID.randomUUID())
+                .claim("realm_access", Map.of("roles", List.of("ROLE_ATTENDEE", "ROLE_STAFF", "offline_access")))
+                .build();
+        SignedJWT jwt = new SignedJWT(new JWSHeader(JWSAlgorithm.RS256), claims);
+        jwt.sign(new RSASSASigner(keys.getPrivate()));
+        return jwt.serialize();
+    }
+}
@@ -0,0 +1,134 @@
+package org.example.ticketabackened.controllers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.ticketabackened.PostgresIntegrationTest;
+import org.example.ticketabackened.TestFixtures;
+import org.example.ticketabackened.domain.entity.Event;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.example.ticketabackened.TestFixtures.ticketType;
+
+// Drives the reactive catalogue over HTTP on its own Netty port, as browsers reach it
+@SpringBootTest(properties = "ticketa.catalogue.reactive.enabled=true")
+@Import(TestFixtures.class)
+class ReactivePublishedEventsHandlerTest extends PostgresIntegrationTest {
+
+    private static final int PORT = freePort();
+
+    @DynamicPropertySource
+    static void cataloguePort(DynamicPropertyRegistry registry) {
+        registry.add("ticketa.catalogue.reactive.port", () -> PORT);
+    }
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private WebTestClient client;
+
+    // A word no other row has, so a search returns only this test's events
+    private String word;
+    private Event first;
+    private Event second;
+
+    @BeforeEach
+    void events() {
+        client = WebTestClient.bindToServer().baseUrl("http://localhost:" + PORT).build();
+        word = "zq" + UUID.randomUUID().toString().replaceAll("[^a-z]", "");
+        LocalDateTime start = LocalDateTime.now().plusDays(5);
+        first = fixtures.publishedEvent(fixtures.user(), start, word + " Hall", ticketType("Standing", 25, 100, false));
+        second = fixtures.publishedEvent(fixtures.user(), start.plusDays(1), word + " Hall", ticketType("Seated", 40, 50, false));
+    }
+
+    @Test
+    void listsAsAJsonArrayByDefault() throws IOException {
+        String body = client.get().uri("/published-events?query={query}", word)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+                .expectBody(String.class).returnResult().getResponseBody();
+
+        JsonNode events = objectMapper.readTree(body);
+        assertThat(events.isArray()).isTrue();
+        assertThat(events.findValuesAsText("id")).containsExactlyInAnyOrder(first.getId().toString(), second.getId().toString());
+    }
+
+    @Test
+    void listsOneEventPerLineForNdjson() throws IOException {
+        String body = client.get().uri("/published-events?query={query}", word)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class).returnResult().getResponseBody();
+
+        String[] lines = body.strip().split("\n");
+        assertThat(lines).hasSize(2);
+        for (String line : lines) {
+            JsonNode event = objectMapper.readTree(line);
+            assertThat(event.isObject()).isTrue();
+            assertThat(event.get("venue").asText()).isEqualTo(word + " Hall");
+        }
+    }
+
+    @Test
+    void pagesTheListing() {
+        client.get().uri("/published-events?page=1&size=1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.length()").isEqualTo(1);
+    }
+
+    @Test
+    void returnsEventDetailsWithTicketTypes() {
+        client.get().uri("/published-events/{eventId}", first.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(first.getId().toString())
+                .jsonPath("$.ticketTypes[0].name").isEqualTo("Standing")
+                .jsonPath("$.ticketTypes[0].price").isEqualTo(25.0)
+                .jsonPath("$.ticketTypes[0].remainingTickets").isEqualTo(100);
+    }
+
+    @Test
+    void returnsNotFoundForAnUnknownEvent() {
+        client.get().uri("/published-events/{eventId}", UUID.randomUUID())
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void rejectsMalformedParameters() {
+        client.get().uri("/published-events/not-a-uuid").exchange().expectStatus().isBadRequest();
+        client.get().uri("/published-events?page=first").exchange().expectStatus().isBadRequest();
+        client.get().uri("/published-events?size=ten").exchange().expectStatus().isBadRequest();
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
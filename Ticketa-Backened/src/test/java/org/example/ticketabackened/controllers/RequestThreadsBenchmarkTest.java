@@ -0,0 +1,225 @@
+package org.example.ticketabackened.controllers;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.ticketabackened.PostgresIntegrationTest;
+import org.example.ticketabackened.TestFixtures;
+import org.example.ticketabackened.domain.entity.Event;
+import org.example.ticketabackened.domain.entity.TicketType;
+import org.example.ticketabackened.domain.entity.User;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.context.TestPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.example.ticketabackened.TestFixtures.ticketType;
+
+/**
+ * Browse and purchase load with platform request threads and with virtual threads, each in its own
+ * context, against the same small fixed Hikari pool. Browsing is the uncached published event search;
+ * purchasing is the single-ticket endpoint, which holds a pooled connection for its whole transaction.
+ * Tokens are the buyer's id, accepted by a stand-in decoder. Run with {@code mvn test -Pbenchmark};
+ * the numbers are logged side by side once both modes have run.
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.hikari.maximum-pool-size=" + RequestThreadsBenchmarkTest.POOL_SIZE,
+        "spring.datasource.hikari.minimum-idle=" + RequestThreadsBenchmarkTest.POOL_SIZE,
+        "ticketa.purchase.max-concurrent=" + (RequestThreadsBenchmarkTest.POOL_SIZE - 1)
+})
+@Import({TestFixtures.class, RequestThreadsBenchmarkTest.BuyerIdTokens.class})
+class RequestThreadsBenchmarkTest extends PostgresIntegrationTest {
+
+    static final int POOL_SIZE = 5;
+    private static final int CLIENTS = 500;
+    private static final int REQUESTS = 2000;
+    private static final int WARMUP_REQUESTS = 200;
+    private static final int BUYERS = 200;
+    private static final Map<String, RunResult> RESULTS = new ConcurrentSkipListMap<>();
+
+    @AfterAll
+    static void report() {
+        RESULTS.forEach((run, result) -> log.info("{}: {} requests in {} ms ({} req/s), p50 {} ms, p99 {} ms, {} busy (503), {} failed",
+                run, REQUESTS, result.millis, result.requestsPerSecond(), result.p50, result.p99, result.busy, result.failed));
+    }
+
+    @Nested
+    @TestPropertySource(properties = "spring.threads.virtual.enabled=false")
+    class PlatformThreads extends Mode {
+
+        @Test
+        void searchUnderLoad() throws Exception {
+            RESULTS.put("platform search", search());
+        }
+
+        @Test
+        void purchaseUnderLoad() throws Exception {
+            RESULTS.put("platform purchase", purchase());
+        }
+    }
+
+    @Nested
+    @TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+    class VirtualThreads extends Mode {
+
+        @Test
+        void searchUnderLoad() throws Exception {
+            RESULTS.put("virtual search", search());
+        }
+
+        @Test
+        void purchaseUnderLoad() throws Exception {
+            RESULTS.put("virtual purchase", purchase());
+        }
+    }
+
+    abstract static class Mode {
+
+        @LocalServerPort
+        private int port;
+
+        @Autowired
+        private TestFixtures fixtures;
+
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
+        RunResult search() throws Exception {
+            User organiser = fixtures.user();
+            for (int i = 0; i < 20; i++) {
+                fixtures.publishedEvent(organiser, LocalDateTime.now().plusDays(i + 1), "Benchmark Arena",
+                        ticketType("Standard", 40, 100, false));
+            }
+            URI uri = URI.create("http://localhost:" + port + "/published-events?query=benchmark%20arena&size=20");
+            return load(request -> HttpRequest.newBuilder(uri).GET().build());
+        }
+
+        // Enough tickets that none sell out, so every 204 is a purchase and everything else is pool or permit pressure
+        RunResult purchase() throws Exception {
+            Event event = fixtures.publishedEvent(fixtures.user(), LocalDateTime.now().plusDays(3), "Benchmark Arena",
+                    ticketType("Standard", 40, (REQUESTS + WARMUP_REQUESTS) * 2, false));
+            TicketType ticketType = event.getTicketTypes().getFirst();
+            URI uri = URI.create("http://localhost:" + port + "/events/" + event.getId() + "/ticket-types/"
+                    + ticketType.getId() + "/tickets");
+            List<String> buyers = new ArrayList<>(BUYERS);
+            for (int i = 0; i < BUYERS; i++) {
+                buyers.add(UUID.randomUUID().toString());
+            }
+
+            RunResult result = load(request -> HttpRequest.newBuilder(uri)
+                    .header("Authorization", "Bearer " + buyers.get(request % BUYERS))
+                    .POST(HttpRequest.BodyPublishers.noBody())
+                    .build());
+
+            int sold = jdbcTemplate.queryForObject("SELECT count(*) FROM ticket WHERE ticket_type_id = ?", Integer.class, ticketType.getId());
+            assertThat(sold).isEqualTo(result.succeeded + result.warmupSucceeded);
+            return result;
+        }
+
+        private RunResult load(IntFunction<HttpRequest> requests) throws Exception {
+            try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+                 HttpClient http = HttpClient.newBuilder().executor(clients).build()) {
+                RunResult warmup = run(http, clients, requests, WARMUP_REQUESTS);
+                return run(http, clients, requests, REQUESTS).afterWarmup(warmup.succeeded);
+            }
+        }
+    }
+
+    private static RunResult run(HttpClient http, ExecutorService clients, IntFunction<HttpRequest> requests, int count) throws Exception {
+        Semaphore inFlight = new Semaphore(CLIENTS);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger busy = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        long[] latencies = new long[count];
+        List<Future<?>> futures = new ArrayList<>(count);
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            int request = i;
+            inFlight.acquire();
+            futures.add(clients.submit(() -> {
+                long sent = System.nanoTime();
+                try {
+                    HttpResponse<Void> response = http.send(requests.apply(request), HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() / 100 == 2) {
+                        succeeded.incrementAndGet();
+                    } else if (response.statusCode() == 503) {
+                        busy.incrementAndGet();
+                    } else {
+                        failed.incrementAndGet();
+                    }
+                } catch (Exception ex) {
+                    failed.incrementAndGet();
+                } finally {
+                    latencies[request] = System.nanoTime() - sent;
+                    inFlight.release();
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(5, TimeUnit.MINUTES);
+        }
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        Arrays.sort(latencies);
+        RunResult result = new RunResult(millis, TimeUnit.NANOSECONDS.toMillis(latencies[count / 2]),
+                TimeUnit.NANOSECONDS.toMillis(latencies[count * 99 / 100]), succeeded.get(), 0, busy.get(), failed.get());
+        assertThat(result.failed).isZero();
+        return result;
+    }
+
+    private record RunResult(long millis, long p50, long p99, int succeeded, int warmupSucceeded, int busy, int failed) {
+
+        RunResult afterWarmup(int warmupSucceeded) {
+            return new RunResult(millis, p50, p99, succeeded, warmupSucceeded, busy, failed);
+        }
+
+        long requestsPerSecond() {
+            return succeeded * 1000L / Math.max(millis, 1);
+        }
+    }
+
+    // Any bearer token is accepted as the id of the buyer it names
+    @TestConfiguration
+    static class BuyerIdTokens {
+
+        @Bean
+        @Primary
+        JwtDecoder buyerIdJwtDecoder() {
+            return token -> Jwt.withTokenValue(token)
+                    .header("alg", "none")
+                    .subject(token)
+                    .claim("preferred_username", "buyer-" + token)
+                    .claim("email", token + "@example.com")
+                    .issuedAt(Instant.now())
+                    .expiresAt(Instant.now().plusSeconds(300))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package org.example.ticketabackened.domain.entity;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.ticketabackened.PostgresIntegrationTest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Insert throughput and primary key index size with random v4 ids against UUIDv7 ids, into copies of
+ * the ticket and ticket_validation tables (same columns and indexes, no foreign keys). The rows are
+ * inserted from several writers at once, as the purchase and admission paths do. Run with
+ * {@code mvn test -Pbenchmark}.
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest
+class UuidV7InsertBenchmarkTest extends PostgresIntegrationTest {
+
+    private static final int ROWS = 400_000;
+    private static final int WRITERS = 8;
+    private static final int BATCH_SIZE = 1000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"ticket", "ticket_validation"})
+    void insertThroughputByIdVersion(String table) throws Exception {
+        Result random = insert(table, UUID::randomUUID);
+        Result timeOrdered = insert(table, UuidV7Generator::next);
+        log.info("{} v4: {} rows/s, primary key {} MB", table, random.rowsPerSecond(), random.indexBytes >> 20);
+        log.info("{} v7: {} rows/s, primary key {} MB", table, timeOrdered.rowsPerSecond(), timeOrdered.indexBytes >> 20);
+
+        assertThat(random.rows).isEqualTo(ROWS);
+        assertThat(timeOrdered.rows).isEqualTo(ROWS);
+    }
+
+    private Result insert(String table, Supplier<UUID> ids) throws Exception {
+        String copy = "bench_" + table;
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + copy);
+        jdbcTemplate.execute("CREATE TABLE " + copy + " (LIKE " + table + " INCLUDING ALL)");
+        try {
+            String sql = table.equals("ticket")
+                    ? "INSERT INTO " + copy + " (id, created_at, modified_at, status, ticket_buyer_id, ticket_type_id) VALUES (?, ?, ?, 'PURCHASED', ?, ?)"
+                    : "INSERT INTO " + copy + " (id, created_at, modified_at, scanned_at, validation_method, validation_status, ticket_id) VALUES (?, ?, ?, ?, 'QR_SCAN', 'INVALID', ?)";
+            ExecutorService writers = Executors.newFixedThreadPool(WRITERS);
+            long start = System.nanoTime();
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int w = 0; w < WRITERS; w++) {
+                    futures.add(writers.submit(() -> {
+                        for (int done = 0; done < ROWS / WRITERS; done += BATCH_SIZE) {
+                            Timestamp now = new Timestamp(System.currentTimeMillis());
+                            List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+                            for (int i = 0; i < BATCH_SIZE; i++) {
+                                rows.add(table.equals("ticket")
+                                        ? new Object[]{ids.get(), now, now, UUID.randomUUID(), UUID.randomUUID()}
+                                        : new Object[]{ids.get(), now, now, now, UUID.randomUUID()});
+                            }
+                            jdbcTemplate.batchUpdate(sql, rows);
+                        }
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get(10, TimeUnit.MINUTES);
+                }
+            } finally {
+                writers.shutdownNow();
+            }
+            long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            Long indexBytes = jdbcTemplate.queryForObject("SELECT pg_relation_size('" + copy + "_pkey')", Long.class);
+            Long rows = jdbcTemplate.queryForObject("SELECT count(*) FROM " + copy, Long.class);
+            return new Result(millis, indexBytes, rows);
+        } finally {
+            jdbcTemplate.execute("DROP TABLE IF EXISTS " + copy);
+        }
+    }
+
+    private record Result(long millis, long indexBytes, long rows) {
+
+        long rowsPerSecond() {
+            return ROWS * 1000L / Math.max(millis, 1);
+        }
+    }
+}
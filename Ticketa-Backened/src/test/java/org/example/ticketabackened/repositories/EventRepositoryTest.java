@@ -0,0 +1,99 @@
+package org.example.ticketabackened.repositories;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.ticketabackened.PostgresIntegrationTest;
+import org.example.ticketabackened.domain.entity.Event;
+import org.example.ticketabackened.domain.entity.TicketType;
+import org.example.ticketabackened.domain.entity.User;
+import org.example.ticketabackened.domain.enums.EventStatus;
+import org.example.ticketabackened.mappers.EventMapper;
+import org.example.ticketabackened.mappers.EventMapperImpl;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The organiser listing maps every event's ticket types; they load in one batch per page, not one select per event
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(EventMapperImpl.class)
+class EventRepositoryTest extends PostgresIntegrationTest {
+
+    private static final int EVENTS = 5;
+
+    @Autowired
+    private EventRepository eventRepo;
+
+    @Autowired
+    private EventMapper eventMapper;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User organiser;
+
+    @BeforeEach
+    void events() {
+        organiser = new User();
+        organiser.setId(UUID.randomUUID());
+        organiser.setUsername("user-" + organiser.getId());
+        organiser.setEmail(organiser.getId() + "@example.com");
+        entityManager.persist(organiser);
+        for (int i = 0; i < EVENTS; i++) {
+            Event event = new Event();
+            event.setEventName("Event " + UUID.randomUUID());
+            event.setStartDateTime(LocalDateTime.now().plusDays(i + 1));
+            event.setEndDateTime(event.getStartDateTime().plusHours(4));
+            event.setVenue("Test Hall");
+            event.setStatus(EventStatus.PUBLISHED);
+            event.setOrganizer(organiser);
+            entityManager.persist(event);
+            entityManager.persist(TicketType.builder().name("Standing").price(20).availableTickets(100).event(event).build());
+            entityManager.persist(TicketType.builder().name("Seated").price(45).availableTickets(50).event(event).build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void cursorPagesTakeTheEventsAndOneTicketTypeBatch() {
+        Statistics statistics = statistics();
+
+        List<Event> first = eventRepo.findByOrganizerIdOrderByStartDateTimeAscIdAsc(organiser.getId(), PageRequest.ofSize(3));
+        first.forEach(this::map);
+        assertThat(first).hasSize(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        statistics.clear();
+        Event last = first.getLast();
+        List<Event> next = eventRepo.findByOrganizerIdAfter(organiser.getId(), last.getStartDateTime(), last.getId(), PageRequest.ofSize(3));
+        next.forEach(this::map);
+        assertThat(next).hasSize(EVENTS - 3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    private void map(Event event) {
+        assertThat(eventMapper.togetEventsResponseDto(event).getTicketTypes()).hasSize(2);
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
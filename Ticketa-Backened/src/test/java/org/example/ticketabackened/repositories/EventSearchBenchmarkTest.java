@@ -0,0 +1,139 @@
+package org.example.ticketabackened.repositories;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.example.ticketabackened.PostgresIntegrationTest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * EXPLAIN ANALYZE of catalogue search before and after the stored search vector: the original query
+ * built to_tsvector for every published row, twice per page because of its count query; the current one
+ * (PublishedEventViewRepository.search) matches the GIN-indexed search_vector, ranks with ts_rank and
+ * reads one row past the page instead of counting.
+ * Both run over a seeded copy of published_event_view (same columns and indexes) with an event_status
+ * column for the original's filter. 1M rows by default, -Dbenchmark.search.rows to change it. Run with
+ * {@code mvn test -Pbenchmark}.
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EventSearchBenchmarkTest extends PostgresIntegrationTest {
+
+    private static final int ROWS = Integer.getInteger("benchmark.search.rows", 1_000_000);
+    private static final int RUNS = 5;
+    private static final String TABLE = "bench_event_search";
+
+    private static final String OLD_MATCH = """
+            event_status = 'PUBLISHED'
+              AND to_tsvector('english', COALESCE(event_name, '') || ' ' || COALESCE(venue, ''))
+              @@ plainto_tsquery('english', '%s')
+            """;
+    private static final String OLD_PAGE = "SELECT * FROM " + TABLE + " WHERE " + OLD_MATCH + " LIMIT 20";
+    private static final String OLD_COUNT = "SELECT count(*) FROM " + TABLE + " WHERE " + OLD_MATCH;
+
+    private static final String NEW_PAGE = """
+            SELECT v.* FROM %s v, to_tsquery('english', '%%s') q
+            WHERE v.search_vector @@ q
+            ORDER BY ts_rank(v.search_vector, q) DESC, v.start_date_time
+            LIMIT 21
+            """.formatted(TABLE);
+    private static final String NEW_COUNT = "SELECT count(*) FROM " + TABLE + " v WHERE v.search_vector @@ to_tsquery('english', '%s')";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + TABLE);
+        jdbcTemplate.execute("CREATE TABLE " + TABLE + " (LIKE published_event_view INCLUDING ALL)");
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " ADD COLUMN event_status varchar(255) NOT NULL DEFAULT 'PUBLISHED'");
+        // Names and venues from small word lists, so common words match thousands of rows; one in eleven is a draft
+        jdbcTemplate.update("""
+                INSERT INTO %s (id, event_name, start_date_time, end_date_time, venue, remaining_tickets, ticket_types,
+                                refreshed_at, event_status)
+                SELECT gen_random_uuid(),
+                       (ARRAY['Jazz', 'Rock', 'Summer', 'Winter', 'Comedy', 'Opera', 'Indie', 'Techno', 'Folk', 'Blues',
+                              'Classical', 'Metal', 'Gospel', 'Salsa', 'Ballet', 'Poetry', 'Film', 'Food', 'Wine', 'Tech'])[1 + g %% 20]
+                           || ' ' || (ARRAY['Festival', 'Night', 'Concert', 'Showcase', 'Gala', 'Tour', 'Session', 'Party',
+                              'Weekend', 'Marathon', 'Live', 'Special', 'Premiere', 'Evening', 'Matinee'])[1 + (g / 20) %% 15]
+                           || ' ' || g,
+                       now() + g * interval '1 minute',
+                       now() + g * interval '1 minute' + interval '3 hours',
+                       (ARRAY['Royal', 'Grand', 'City', 'Harbour', 'Riverside', 'Old Town', 'Union', 'Park', 'Civic', 'Echo'])[1 + (g / 7) %% 10]
+                           || ' ' || (ARRAY['Arena', 'Hall', 'Theatre', 'Club', 'Stadium'])[1 + (g / 3) %% 5],
+                       100, '[]'::jsonb, now(),
+                       CASE WHEN g %% 11 = 0 THEN 'DRAFT' ELSE 'PUBLISHED' END
+                FROM generate_series(1, ?) g
+                """.formatted(TABLE), ROWS);
+        jdbcTemplate.execute("DELETE FROM " + TABLE + " WHERE event_status <> 'PUBLISHED'");
+        jdbcTemplate.execute("VACUUM ANALYZE " + TABLE);
+    }
+
+    @AfterAll
+    void drop() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + TABLE);
+    }
+
+    // A selective two-word search, a common word, and a venue word shared by a fifth of the catalogue
+    @ParameterizedTest
+    @ValueSource(strings = {"jazz festival", "opera", "harbour stadium"})
+    void originalAgainstIndexedSearch(String text) throws Exception {
+        String prefixQuery = PublishedEventViewRepository.toPrefixQuery(text);
+
+        Timing oldPage = explain(OLD_PAGE.formatted(text));
+        Timing oldCount = explain(OLD_COUNT.formatted(text));
+        Timing newPage = explain(NEW_PAGE.formatted(prefixQuery));
+
+        log.info("'{}' over {} rows, original: page {} ms + count {} ms ({})", text, ROWS, oldPage.millis, oldCount.millis, oldPage.scan);
+        log.info("'{}' over {} rows, indexed: page {} ms ({})", text, ROWS, newPage.millis, newPage.scan);
+
+        // Full words, so the prefix terms match exactly the rows plainto_tsquery does
+        assertThat(count(NEW_COUNT.formatted(prefixQuery))).isEqualTo(count(OLD_COUNT.formatted(text))).isPositive();
+        assertThat(newPage.plan).contains("Bitmap Index Scan");
+    }
+
+    private Timing explain(String sql) throws Exception {
+        double[] millis = new double[RUNS];
+        JsonNode plan = null;
+        for (int i = 0; i < RUNS; i++) {
+            String json = jdbcTemplate.queryForObject("EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON) " + sql, String.class);
+            JsonNode root = objectMapper.readTree(json).get(0);
+            millis[i] = root.get("Execution Time").asDouble();
+            plan = root.get("Plan");
+        }
+        Arrays.sort(millis);
+        return new Timing(millis[RUNS / 2], scan(plan), plan.toString());
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+
+    // The innermost node, which is how the rows were found
+    private static String scan(JsonNode plan) {
+        while (plan.has("Plans")) {
+            plan = plan.get("Plans").get(0);
+        }
+        return plan.get("Node Type").asText();
+    }
+
+    private record Timing(double millis, String scan, String plan) {
+    }
+}
@@ -0,0 +1,99 @@
+package org.example.ticketabackened.repositories;
+
+import org.example.ticketabackened.PostgresIntegrationTest;
+import org.example.ticketabackened.TestFixtures;
+import org.example.ticketabackened.domain.entity.Event;
+import org.example.ticketabackened.domain.entity.PublishedEventView;
+import org.example.ticketabackened.domain.entity.User;
+import org.example.ticketabackened.domain.model.EventFacetCount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.example.ticketabackened.TestFixtures.ticketType;
+
+@SpringBootTest
+@Import(TestFixtures.class)
+class PublishedEventViewRepositoryTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private PublishedEventViewRepository publishedEventViewRepo;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    // Each test gets its own venue, so rows from other tests never match the filter
+    private String venue;
+    private Event cheapAndPremium;
+    private Event midRange;
+    private Event premium;
+
+    @BeforeEach
+    void events() {
+        venue = "Venue " + UUID.randomUUID();
+        User organiser = fixtures.user();
+        LocalDateTime start = LocalDateTime.now().plusDays(10);
+        cheapAndPremium = fixtures.publishedEvent(organiser, start, venue,
+                ticketType("Standing", 10, 100, false), ticketType("Box", 200, 10, false));
+        midRange = fixtures.publishedEvent(organiser, start.plusDays(1), venue, ticketType("Seated", 75, 100, false));
+        premium = fixtures.publishedEvent(organiser, start.plusDays(2), venue, ticketType("Gala", 300, 50, false));
+    }
+
+    @Test
+    void priceRangeMatchesEventsWithATicketTypeInsideIt() {
+        // The cheap-and-premium event spans the range but has nothing priced inside it
+        assertThat(filtered(50.0, 100.0)).containsExactly(midRange.getId());
+        assertThat(filtered(200.0, 250.0)).containsExactly(cheapAndPremium.getId());
+        assertThat(filtered(150.0, null)).containsExactly(cheapAndPremium.getId(), premium.getId());
+        assertThat(filtered(null, 20.0)).containsExactly(cheapAndPremium.getId());
+        assertThat(filtered(null, null)).containsExactly(cheapAndPremium.getId(), midRange.getId(), premium.getId());
+    }
+
+    @Test
+    void facetsCountTheSameEvents() {
+        assertThat(facetTotal(50.0, 100.0)).isEqualTo(1);
+        assertThat(facetTotal(150.0, null)).isEqualTo(2);
+        assertThat(facetTotal(null, null)).isEqualTo(3);
+    }
+
+    @Test
+    void searchReadsSlicesWithoutATotal() {
+        String word = "zq" + UUID.randomUUID().toString().replaceAll("[^a-z]", "");
+        User organiser = fixtures.user();
+        for (int i = 0; i < 3; i++) {
+            fixtures.publishedEvent(organiser, LocalDateTime.now().plusDays(i + 1), word + " Hall", ticketType("Standing", 25, 100, false));
+        }
+        String query = PublishedEventViewRepository.toPrefixQuery(word);
+
+        Slice<PublishedEventView> first = publishedEventViewRepo.search(query, PageRequest.of(0, 2));
+        Slice<PublishedEventView> last = publishedEventViewRepo.search(query, PageRequest.of(1, 2));
+
+        assertThat(first.getContent()).hasSize(2);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(last.getContent()).hasSize(1);
+        assertThat(last.hasNext()).isFalse();
+    }
+
+    private List<UUID> filtered(Double minPrice, Double maxPrice) {
+        return publishedEventViewRepo.findFiltered(null, null, venue, minPrice, maxPrice,
+                        PageRequest.of(0, 20, Sort.by("startDateTime", "id")))
+                .map(PublishedEventView::getId)
+                .getContent();
+    }
+
+    private long facetTotal(Double minPrice, Double maxPrice) {
+        return publishedEventViewRepo.countFacets(null, null, venue, minPrice, maxPrice).stream()
+                .mapToLong(EventFacetCount::getEvents)
+                .sum();
+    }
+}
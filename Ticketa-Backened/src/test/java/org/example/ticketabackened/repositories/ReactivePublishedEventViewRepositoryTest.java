@@ -0,0 +1,73 @@
+package org.example.ticketabackened.repositories;
+
+import org.example.ticketabackened.PostgresIntegrationTest;
+import org.example.ticketabackened.TestFixtures;
+import org.example.ticketabackened.domain.entity.Event;
+import org.example.ticketabackened.domain.entity.PublishedEventView;
+import org.example.ticketabackened.domain.model.PublishedTicketType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.example.ticketabackened.TestFixtures.ticketType;
+
+@SpringBootTest(properties = {"ticketa.catalogue.reactive.enabled=true", "ticketa.catalogue.reactive.port=0"})
+@Import(TestFixtures.class)
+class ReactivePublishedEventViewRepositoryTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private ReactivePublishedEventViewRepository reactivePublishedEventViewRepo;
+
+    @Autowired
+    private PublishedEventViewRepository publishedEventViewRepo;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Test
+    void mapsRowsLikeTheJpaEntity() {
+        Event event = fixtures.publishedEvent(fixtures.user(), LocalDateTime.now().plusDays(5).truncatedTo(ChronoUnit.SECONDS),
+                "Reactive Hall", ticketType("Standing", 25, 100, false), ticketType("Box", 180.5, 8, false));
+
+        PublishedEventView view = reactivePublishedEventViewRepo.findById(event.getId()).block();
+        PublishedEventView expected = publishedEventViewRepo.findById(event.getId()).orElseThrow();
+
+        assertThat(view).usingRecursiveComparison().isEqualTo(expected);
+        // ticket_types is read as text and parsed here, so check it field by field as well
+        assertThat(view.getTicketTypes())
+                .extracting(PublishedTicketType::getName, PublishedTicketType::getPrice, PublishedTicketType::getRemainingTickets)
+                .containsExactlyInAnyOrder(
+                        tuple("Standing", 25.0, 100),
+                        tuple("Box", 180.5, 8));
+        assertThat(view.getMinPrice()).isEqualTo(25.0);
+        assertThat(view.getMaxPrice()).isEqualTo(180.5);
+        assertThat(view.getRemainingTickets()).isEqualTo(108);
+    }
+
+    @Test
+    void findByIdIsEmptyForAnUnknownEvent() {
+        assertThat(reactivePublishedEventViewRepo.findById(UUID.randomUUID()).blockOptional()).isEmpty();
+    }
+
+    @Test
+    void searchMatchesWordPrefixes() {
+        String word = "zq" + UUID.randomUUID().toString().replaceAll("[^a-z]", "");
+        Event event = fixtures.publishedEvent(fixtures.user(), LocalDateTime.now().plusDays(5), word + " Hall",
+                ticketType("Standing", 25, 100, false));
+
+        List<UUID> ids = reactivePublishedEventViewRepo.search(PublishedEventViewRepository.toPrefixQuery(word.substring(0, 6)), 0, 20)
+                .map(PublishedEventView::getId)
+                .collectList()
+                .block();
+
+        assertThat(ids).contains(event.getId());
+    }
+}
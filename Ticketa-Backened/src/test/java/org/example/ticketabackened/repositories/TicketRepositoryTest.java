@@ -0,0 +1,127 @@
+package org.example.ticketabackened.repositories;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.ticketabackened.PostgresIntegrationTest;
+import org.example.ticketabackened.domain.entity.Event;
+import org.example.ticketabackened.domain.entity.Ticket;
+import org.example.ticketabackened.domain.entity.TicketType;
+import org.example.ticketabackened.domain.entity.User;
+import org.example.ticketabackened.domain.enums.EventStatus;
+import org.example.ticketabackened.domain.enums.TicketStatus;
+import org.example.ticketabackened.mappers.TicketMapper;
+import org.example.ticketabackened.mappers.TicketMapperImpl;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Mapping a page of tickets reads the ticket type and event names; the listings fetch them with the page
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TicketMapperImpl.class)
+class TicketRepositoryTest extends PostgresIntegrationTest {
+
+    private static final int EVENTS = 5;
+
+    @Autowired
+    private TicketRepository ticketRepo;
+
+    @Autowired
+    private TicketMapper ticketMapper;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User buyer;
+
+    @BeforeEach
+    void tickets() {
+        User organiser = entityManager.persist(user());
+        buyer = entityManager.persist(user());
+        for (int i = 0; i < EVENTS; i++) {
+            Event event = entityManager.persist(event(organiser, i));
+            TicketType ticketType = entityManager.persist(ticketType(event));
+            entityManager.persist(Ticket.builder().status(TicketStatus.PURCHASED).ticketType(ticketType).ticketBuyer(buyer).build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void cursorPagesTakeOneStatementEach() {
+        Statistics statistics = statistics();
+
+        List<Ticket> first = ticketRepo.findByTicketBuyerIdOrderByCreatedAtDescIdDesc(buyer.getId(), PageRequest.ofSize(3));
+        first.forEach(this::map);
+        assertThat(first).hasSize(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        statistics.clear();
+        Ticket last = first.getLast();
+        List<Ticket> next = ticketRepo.findByTicketBuyerIdBefore(buyer.getId(), last.getCreatedAt(), last.getId(), PageRequest.ofSize(3));
+        next.forEach(this::map);
+        assertThat(next).hasSize(EVENTS - 3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void offsetPageTakesASelectAndACount() {
+        Statistics statistics = statistics();
+
+        Page<Ticket> page = ticketRepo.findByTicketBuyerId(buyer.getId(), PageRequest.of(0, 3));
+        page.forEach(this::map);
+
+        assertThat(page.getTotalElements()).isEqualTo(EVENTS);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    private void map(Ticket ticket) {
+        assertThat(ticketMapper.toDto(ticket).getEventName()).isNotNull();
+        assertThat(ticketMapper.toGetTicketResponseDto(ticket).getTicketTypeName()).isNotNull();
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    private static User user() {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setUsername("user-" + user.getId());
+        user.setEmail(user.getId() + "@example.com");
+        return user;
+    }
+
+    private static Event event(User organiser, int day) {
+        Event event = new Event();
+        event.setEventName("Event " + UUID.randomUUID());
+        event.setStartDateTime(LocalDateTime.now().plusDays(day + 1));
+        event.setEndDateTime(event.getStartDateTime().plusHours(4));
+        event.setVenue("Test Hall");
+        event.setStatus(EventStatus.PUBLISHED);
+        event.setOrganizer(organiser);
+        return event;
+    }
+
+    private static TicketType ticketType(Event event) {
+        return TicketType.builder().name("Standard").price(20).availableTickets(100).event(event).build();
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.ticketabackened.service.impl;
+
+import org.example.ticketabackened.domain.entity.Event;
+import org.example.ticketabackened.domain.enums.EventStatus;
+import org.example.ticketabackened.domain.model.EventSuggestion;
+import org.example.ticketabackened.repositories.EventRepository;
+import org.example.ticketabackened.service.TicketInventoryService;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EventSuggestionServiceImplTest {
+
+    private final EventRepository eventRepo = mock(EventRepository.class);
+    private final EventSuggestionServiceImpl suggestions =
+            new EventSuggestionServiceImpl(eventRepo, mock(TicketInventoryService.class), 10);
+
+    @Test
+    void keepsEditsMadeWhileRebuilding() {
+        Event stale = event("Summer Jazz Festival");
+        Event published = event("Jazz Brunch");
+        Event removed = event("Jazz Night");
+        when(eventRepo.findByStatus(EventStatus.PUBLISHED)).thenReturn(List.of(stale, removed));
+        suggestions.rebuild();
+
+        // The rebuild reads the old rows, then these edits commit before it swaps
+        when(eventRepo.findByStatus(EventStatus.PUBLISHED)).thenAnswer(invocation -> {
+            suggestions.index(published);
+            suggestions.remove(removed.getId());
+            return List.of(stale, removed);
+        });
+        suggestions.rebuild();
+
+        assertThat(suggestions.suggest("jazz", 10)).extracting(EventSuggestion::getText)
+                .containsExactlyInAnyOrder("Summer Jazz Festival", "Jazz Brunch");
+    }
+
+    @Test
+    void clampsTheLimit() {
+        when(eventRepo.findByStatus(EventStatus.PUBLISHED))
+                .thenReturn(List.of(event("Jazz One"), event("Jazz Two"), event("Jazz Three")));
+        suggestions.rebuild();
+
+        assertThat(suggestions.suggest("jazz", -5)).hasSize(1);
+        assertThat(suggestions.suggest("jazz", 0)).hasSize(1);
+        assertThat(suggestions.suggest("jazz", 1000)).hasSize(3);
+    }
+
+    private static Event event(String name) {
+        Event event = new Event();
+        event.setId(UUID.randomUUID());
+        event.setEventName(name);
+        event.setStatus(EventStatus.PUBLISHED);
+        event.setStartDateTime(LocalDateTime.now().plusDays(3));
+        event.setEndDateTime(LocalDateTime.now().plusDays(3).plusHours(4));
+        return event;
+    }
+}
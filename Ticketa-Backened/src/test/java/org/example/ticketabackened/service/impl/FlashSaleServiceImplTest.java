@@ -0,0 +1,173 @@
+package org.example.ticketabackened.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.ticketabackened.PostgresIntegrationTest;
+import org.example.ticketabackened.TestFixtures;
+import org.example.ticketabackened.domain.entity.Event;
+import org.example.ticketabackened.domain.entity.User;
+import org.example.ticketabackened.exceptionHandler.TicketsSoldOutException;
+import org.example.ticketabackened.repositories.TicketRepository;
+import org.example.ticketabackened.repositories.TicketTypeRepository;
+import org.example.ticketabackened.service.TicketTypeService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.example.ticketabackened.TestFixtures.ticketType;
+
+// Stress tests against a real database: the flash sale engine next to the regular purchase path, which
+// reserves with a conditional update of the sold_tickets counter
+@Slf4j
+@SpringBootTest(properties = {"ticketa.flash-sale.sold-out-recheck-ms=50", "ticketa.purchase.permit-timeout-ms=60000"})
+@Import(TestFixtures.class)
+class FlashSaleServiceImplTest extends PostgresIntegrationTest {
+
+    private static final int CAPACITY = 300;
+    private static final int ATTEMPTS = 1200;
+    private static final int THREADS = 64;
+
+    @Autowired
+    private TicketTypeService ticketTypeService;
+
+    @Autowired
+    private TicketTypeRepository ticketTypeRepo;
+
+    @Autowired
+    private TicketRepository ticketRepo;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Test
+    void sellsExactlyCapacityLikeTheCounterPath() throws Exception {
+        List<User> buyers = IntStream.range(0, 50).mapToObj(i -> fixtures.user()).toList();
+        UUID flashSale = onlyTicketType(fixtures.publishedEvent(fixtures.user(), ticketType("Flash", 50, CAPACITY, true)));
+        UUID counter = onlyTicketType(fixtures.publishedEvent(fixtures.user(), ticketType("Counter", 50, CAPACITY, false)));
+
+        RunResult flashResult = run(flashSale, buyers);
+        RunResult counterResult = run(counter, buyers);
+        log.info("Flash sale: {} sold, {} sold out, {} failed in {} ms ({} attempts/s)", flashResult.sold, flashResult.soldOut,
+                flashResult.failed, flashResult.millis, flashResult.attemptsPerSecond());
+        log.info("sold_tickets counter: {} sold, {} sold out, {} failed in {} ms ({} attempts/s)", counterResult.sold,
+                counterResult.soldOut, counterResult.failed, counterResult.millis, counterResult.attemptsPerSecond());
+
+        assertSoldOutExactly(flashSale, flashResult);
+        assertSoldOutExactly(counter, counterResult);
+    }
+
+    @Test
+    void aFailingPurchaseDoesNotFailTheRestOfItsBatch() throws Exception {
+        List<User> buyers = IntStream.range(0, 20).mapToObj(i -> fixtures.user()).toList();
+        UUID flashSale = onlyTicketType(fixtures.publishedEvent(fixtures.user(), ticketType("Flash", 50, 100, true)));
+
+        ExecutorService executor = Executors.newFixedThreadPool(24);
+        try {
+            List<Future<?>> good = new ArrayList<>();
+            List<Future<?>> bad = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                UUID buyer = buyers.get(i % buyers.size()).getId();
+                good.add(executor.submit(() -> ticketTypeService.purchaseTicket(buyer, flashSale)));
+                if (i % 10 == 0) {
+                    // Not in the users table, the ticket insert fails on its foreign key
+                    bad.add(executor.submit(() -> ticketTypeService.purchaseTicket(UUID.randomUUID(), flashSale)));
+                }
+            }
+            for (Future<?> future : good) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+            for (Future<?> future : bad) {
+                assertThatThrownBy(() -> future.get(30, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(ticketRepo.countByTicketTypeId(flashSale)).isEqualTo(40);
+        assertThat(soldTickets(flashSale)).isEqualTo(40);
+    }
+
+    @Test
+    void sellsStockThatComesBackAfterSellingOut() throws Exception {
+        User buyer = fixtures.user();
+        UUID flashSale = onlyTicketType(fixtures.publishedEvent(fixtures.user(), ticketType("Flash", 50, 2, true)));
+
+        ticketTypeService.purchaseTickets(buyer.getId(), flashSale, 2);
+        assertThatThrownBy(() -> ticketTypeService.purchaseTicket(buyer.getId(), flashSale))
+                .isInstanceOf(TicketsSoldOutException.class);
+
+        // Capacity raised behind this instance's back, as another node would
+        jdbcTemplate.update("UPDATE ticket_type SET available_tickets = 3 WHERE id = ?", flashSale);
+        Thread.sleep(100);
+
+        assertThat(ticketTypeService.purchaseTicket(buyer.getId(), flashSale)).isNotNull();
+        assertThat(soldTickets(flashSale)).isEqualTo(3);
+    }
+
+    private RunResult run(UUID ticketTypeId, List<User> buyers) throws Exception {
+        AtomicInteger sold = new AtomicInteger();
+        AtomicInteger soldOut = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        long start = System.nanoTime();
+        try {
+            List<Future<?>> futures = new ArrayList<>(ATTEMPTS);
+            for (int i = 0; i < ATTEMPTS; i++) {
+                UUID buyer = buyers.get(i % buyers.size()).getId();
+                futures.add(executor.submit(() -> {
+                    try {
+                        ticketTypeService.purchaseTicket(buyer, ticketTypeId);
+                        sold.incrementAndGet();
+                    } catch (TicketsSoldOutException ex) {
+                        soldOut.incrementAndGet();
+                    } catch (RuntimeException ex) {
+                        failed.incrementAndGet();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        return new RunResult(sold.get(), soldOut.get(), failed.get(), millis);
+    }
+
+    // Every attempt either bought a ticket or was told it sold out, and the counter and rows agree with the buyers
+    private void assertSoldOutExactly(UUID ticketTypeId, RunResult result) {
+        assertThat(result.failed).isZero();
+        assertThat(result.sold).isEqualTo(CAPACITY);
+        assertThat(result.soldOut).isEqualTo(ATTEMPTS - CAPACITY);
+        assertThat(soldTickets(ticketTypeId)).isEqualTo(CAPACITY);
+        assertThat(ticketRepo.countByTicketTypeId(ticketTypeId)).isEqualTo(CAPACITY);
+    }
+
+    private int soldTickets(UUID ticketTypeId) {
+        return ticketTypeRepo.findById(ticketTypeId).orElseThrow().getSoldTickets();
+    }
+
+    private UUID onlyTicketType(Event event) {
+        return event.getTicketTypes().get(0).getId();
+    }
+
+    private record RunResult(int sold, int soldOut, int failed, long millis) {
+        long attemptsPerSecond() {
+            return ATTEMPTS * 1000L / Math.max(millis, 1);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package org.example.ticketabackened.service.impl;
+
+import org.example.ticketabackened.domain.entity.Event;
+import org.example.ticketabackened.domain.entity.PublishedEventView;
+import org.example.ticketabackened.domain.entity.TicketType;
+import org.example.ticketabackened.domain.enums.EventStatus;
+import org.example.ticketabackened.repositories.EventRepository;
+import org.example.ticketabackened.repositories.PublishedEventViewRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class InMemoryEventSearchServiceImplTest {
+
+    private final EventRepository eventRepo = mock(EventRepository.class);
+    private final PublishedEventViewRepository publishedEventViewRepo = mock(PublishedEventViewRepository.class);
+    private final InMemoryEventSearchServiceImpl search = new InMemoryEventSearchServiceImpl(eventRepo, publishedEventViewRepo);
+
+    @BeforeEach
+    void viewsForIds() {
+        when(publishedEventViewRepo.findAllById(anyIterable())).thenAnswer(invocation -> {
+            List<PublishedEventView> views = new ArrayList<>();
+            for (Object id : invocation.<Iterable<?>>getArgument(0)) {
+                PublishedEventView view = new PublishedEventView();
+                view.setId((UUID) id);
+                views.add(view);
+            }
+            return views;
+        });
+    }
+
+    @Test
+    void ranksNameMatchesAboveVenueAndTicketTypeMatches() {
+        Event byName = event("Jazz Festival", "Town Hall", "Standard");
+        Event byVenue = event("Summer Night", "Jazz Club", "Standard");
+        Event byTicketType = event("Open Air", "Park Stage", "Jazz Pit");
+        loaded(byTicketType, byVenue, byName);
+
+        assertThat(search("jazz")).containsExactly(byName.getId(), byVenue.getId(), byTicketType.getId());
+    }
+
+    @Test
+    void ranksExactAbovePrefixAboveTypoMatches() {
+        Event exact = event("Rock Concert", "Arena", "Standard");
+        Event prefix = event("Rockabilly Concert", "Arena", "Standard");
+        Event typo = event("Rick Concert", "Arena", "Standard");
+        loaded(typo, prefix, exact);
+
+        assertThat(search("rock")).containsExactly(exact.getId(), prefix.getId(), typo.getId());
+    }
+
+    @Test
+    void toleratesTyposByWordLength() {
+        Event event = event("Philharmonic Orchestra", "Concert Hall", "Standard");
+        loaded(event);
+
+        // Two typos allowed from eight letters, one from four, none below, and never in the first letter
+        assertThat(search("pilarmonic")).containsExactly(event.getId());
+        assertThat(search("pilarmoic")).isEmpty();
+        assertThat(search("filharmonic")).isEmpty();
+        assertThat(search("cnocert")).containsExactly(event.getId());
+        assertThat(search("hlal")).containsExactly(event.getId());
+        assertThat(search("hal")).containsExactly(event.getId());
+        assertThat(search("hsl")).isEmpty();
+        assertThat(search("pilharmonics orchestras")).containsExactly(event.getId());
+        assertThat(search("orchestra xylophone")).isEmpty();
+    }
+
+    @Test
+    void dropsRemovedAndUnpublishedEvents() {
+        Event removed = event("Jazz Brunch", "Cafe", "Standard");
+        Event unpublished = event("Jazz Night", "Club", "Standard");
+        Event kept = event("Jazz Festival", "Park", "Standard");
+        loaded(removed, unpublished, kept);
+
+        search.remove(removed.getId());
+        unpublished.setStatus(EventStatus.DRAFT);
+        search.index(unpublished);
+
+        assertThat(search("jazz")).containsExactly(kept.getId());
+        assertThat(search("brunch")).isEmpty();
+    }
+
+    @Test
+    void keepsEditsMadeWhileRebuilding() {
+        Event stale = event("Jazz Festival", "Park", "Standard");
+        Event published = event("Jazz Brunch", "Cafe", "Standard");
+        Event removed = event("Jazz Night", "Club", "Standard");
+        loaded(stale, removed);
+
+        // The rebuild reads the old rows, then these edits commit before it swaps
+        when(eventRepo.findByStatus(EventStatus.PUBLISHED)).thenAnswer(invocation -> {
+            search.index(published);
+            search.remove(removed.getId());
+            return List.of(stale, removed);
+        });
+        search.rebuild();
+
+        assertThat(search("jazz")).containsExactlyInAnyOrder(stale.getId(), published.getId());
+    }
+
+    private void loaded(Event... events) {
+        when(eventRepo.findByStatus(EventStatus.PUBLISHED)).thenReturn(List.of(events));
+        search.rebuild();
+    }
+
+    private List<UUID> search(String query) {
+        return search.searchPublishedEvents(query, PageRequest.of(0, 20)).map(PublishedEventView::getId).getContent();
+    }
+
+    private static Event event(String name, String venue, String ticketTypeName) {
+        Event event = new Event();
+        event.setId(UUID.randomUUID());
+        event.setEventName(name);
+        event.setVenue(venue);
+        event.setStatus(EventStatus.PUBLISHED);
+        event.setStartDateTime(LocalDateTime.now().plusDays(3));
+        event.setTicketTypes(List.of(TicketType.builder().name(ticketTypeName).build()));
+        return event;
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.ticketabackened.service.impl;
+
+import org.example.ticketabackened.PostgresIntegrationTest;
+import org.example.ticketabackened.TestFixtures;
+import org.example.ticketabackened.domain.entity.Event;
+import org.example.ticketabackened.domain.entity.PublishedEventView;
+import org.example.ticketabackened.domain.entity.TicketType;
+import org.example.ticketabackened.domain.model.TicketTypeCreationRequest;
+import org.example.ticketabackened.repositories.EventRepository;
+import org.example.ticketabackened.repositories.PublishedEventViewRepository;
+import org.example.ticketabackened.service.TicketTypeService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.example.ticketabackened.TestFixtures.ticketType;
+
+// The startup rebuild is one set-based statement; it has to write exactly what projecting each event does
+@SpringBootTest
+@Import(TestFixtures.class)
+class PublishedEventProjectionServiceImplTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private PublishedEventProjectionServiceImpl projectionService;
+
+    @Autowired
+    private PublishedEventViewRepository publishedEventViewRepo;
+
+    @Autowired
+    private EventRepository eventRepo;
+
+    @Autowired
+    private TicketTypeService ticketTypeService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Test
+    void rebuildWritesWhatProjectionWrites() {
+        Event stale = fixtures.publishedEvent(fixtures.user(), ticketType("Standing", 25, 100, false),
+                new TicketTypeCreationRequest("Seated", null, 60, 40, 4, false));
+        Event missing = fixtures.publishedEvent(fixtures.user(), ticketType("Box", 150, 6, false));
+        for (TicketType ticketType : stale.getTicketTypes()) {
+            ticketTypeService.purchaseTickets(fixtures.user().getId(), ticketType.getId(), 3);
+        }
+        PublishedEventView staleExpected = projected(stale.getId());
+        PublishedEventView missingExpected = projected(missing.getId());
+
+        UUID orphan = UUID.randomUUID();
+        jdbcTemplate.update("UPDATE published_event_view SET event_name = 'Old name', remaining_tickets = 0, ticket_types = '[]' WHERE id = ?",
+                stale.getId());
+        jdbcTemplate.update("DELETE FROM published_event_view WHERE id = ?", missing.getId());
+        jdbcTemplate.update("""
+                INSERT INTO published_event_view (id, event_name, start_date_time, end_date_time, venue, remaining_tickets,
+                                                  ticket_types, refreshed_at)
+                VALUES (?, 'Cancelled', localtimestamp, localtimestamp, 'Nowhere', 0, '[]', localtimestamp)
+                """, orphan);
+
+        projectionService.rebuild();
+
+        assertThat(publishedEventViewRepo.findById(stale.getId())).get().usingRecursiveComparison()
+                .ignoringFields("refreshedAt").ignoringCollectionOrder().isEqualTo(staleExpected);
+        assertThat(publishedEventViewRepo.findById(missing.getId())).get().usingRecursiveComparison()
+                .ignoringFields("refreshedAt").ignoringCollectionOrder().isEqualTo(missingExpected);
+        assertThat(staleExpected.getRemainingTickets()).isEqualTo(100 + 40 - 6);
+        assertThat(publishedEventViewRepo.findById(orphan)).isEmpty();
+    }
+
+    // The row the incremental path writes for the event as it is now
+    private PublishedEventView projected(UUID eventId) {
+        transactionTemplate.executeWithoutResult(status -> projectionService.project(eventRepo.findById(eventId).orElseThrow()));
+        return publishedEventViewRepo.findById(eventId).orElseThrow();
+    }
+}
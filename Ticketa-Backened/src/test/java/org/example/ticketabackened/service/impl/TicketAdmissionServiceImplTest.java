@@ -0,0 +1,75 @@
+package org.example.ticketabackened.service.impl;
+
+import org.example.ticketabackened.PostgresIntegrationTest;
+import org.example.ticketabackened.TestFixtures;
+import org.example.ticketabackened.domain.entity.Event;
+import org.example.ticketabackened.domain.entity.Ticket;
+import org.example.ticketabackened.domain.entity.TicketValidation;
+import org.example.ticketabackened.domain.enums.TicketValidationMethod;
+import org.example.ticketabackened.domain.enums.TicketValidationStatus;
+import org.example.ticketabackened.service.TicketAdmissionService;
+import org.example.ticketabackened.service.TicketTypeService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.example.ticketabackened.TestFixtures.ticketType;
+
+// A finished event is remembered as needing no index, until the tombstone expires and it is looked up again
+@SpringBootTest(properties = "ticketa.admission.tombstone-ttl-ms=" + TicketAdmissionServiceImplTest.TOMBSTONE_TTL_MS)
+@Import(TestFixtures.class)
+class TicketAdmissionServiceImplTest extends PostgresIntegrationTest {
+
+    static final long TOMBSTONE_TTL_MS = 1000;
+
+    @Autowired
+    private TicketAdmissionService ticketAdmissionService;
+
+    @Autowired
+    private TicketTypeService ticketTypeService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Test
+    void finishedEventIsNotLookedUpAgainUntilItsTombstoneExpires() throws Exception {
+        Event event = fixtures.publishedEvent(fixtures.user(), LocalDateTime.now().minusMinutes(30), "Gate Hall",
+                ticketType("Standard", 20, 10, false));
+        Ticket ticket = ticketTypeService.purchaseTicket(fixtures.user().getId(), event.getTicketTypes().getFirst().getId());
+        setEnd(event, LocalDateTime.now().minusMinutes(5));
+        ticketAdmissionService.loadEvent(event.getId());
+
+        // Running again, but the tombstone still stands in for it
+        setEnd(event, LocalDateTime.now().plusHours(2));
+        ticketAdmissionService.loadEvent(event.getId());
+        assertThat(admit(ticket)).isEmpty();
+
+        Thread.sleep(TOMBSTONE_TTL_MS + 100);
+        ticketAdmissionService.loadEvent(event.getId());
+        assertThat(admit(ticket)).get()
+                .extracting(TicketValidation::getValidationStatus)
+                .isEqualTo(TicketValidationStatus.VALID);
+    }
+
+    // Empty when no loaded index knows the ticket
+    private Optional<TicketValidation> admit(Ticket ticket) {
+        return transactionTemplate.execute(status -> ticketAdmissionService.admit(ticket.getId(), TicketValidationMethod.MANUAL));
+    }
+
+    private void setEnd(Event event, LocalDateTime end) {
+        jdbcTemplate.update("UPDATE events SET end_date_time = ? WHERE id = ?", end, event.getId());
+    }
+}
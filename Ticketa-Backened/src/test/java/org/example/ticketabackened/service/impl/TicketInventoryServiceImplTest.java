@@ -0,0 +1,101 @@
+package org.example.ticketabackened.service.impl;
+
+import org.example.ticketabackened.PostgresIntegrationTest;
+import org.example.ticketabackened.TestFixtures;
+import org.example.ticketabackened.domain.entity.Event;
+import org.example.ticketabackened.domain.model.TicketTypeCreationRequest;
+import org.example.ticketabackened.exceptionHandler.TicketsSoldOutException;
+import org.example.ticketabackened.service.TicketTypeService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Purchases larger than any one shard spill across several; concurrent spills must neither deadlock nor oversell
+@SpringBootTest(properties = "ticketa.purchase.permit-timeout-ms=60000")
+@Import(TestFixtures.class)
+class TicketInventoryServiceImplTest extends PostgresIntegrationTest {
+
+    private static final int QUANTITY = 9;
+
+    @Autowired
+    private TicketTypeService ticketTypeService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Test
+    void concurrentPurchasesSpillAcrossShards() throws Exception {
+        // 50 shards of 8, so every purchase of 9 has to take from at least two
+        UUID ticketTypeId = shardedTicketType(400, 50);
+
+        List<Boolean> results = purchaseInParallel(ticketTypeId, 40);
+
+        assertThat(results).containsOnly(true);
+        assertSold(ticketTypeId, 40 * QUANTITY);
+    }
+
+    @Test
+    void concurrentPurchasesStopAtCapacity() throws Exception {
+        UUID ticketTypeId = shardedTicketType(40, 5);
+
+        List<Boolean> results = purchaseInParallel(ticketTypeId, 12);
+
+        assertThat(results).filteredOn(Boolean::booleanValue).hasSize(4);
+        assertSold(ticketTypeId, 4 * QUANTITY);
+    }
+
+    // True for a purchase, false for sold out; anything else (a deadlock abort) fails the test
+    private List<Boolean> purchaseInParallel(UUID ticketTypeId, int buyers) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(buyers);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>(buyers);
+            for (int i = 0; i < buyers; i++) {
+                UUID buyerId = fixtures.user().getId();
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        return ticketTypeService.purchaseTickets(buyerId, ticketTypeId, QUANTITY).size() == QUANTITY;
+                    } catch (TicketsSoldOutException ex) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+            List<Boolean> results = new ArrayList<>(buyers);
+            for (Future<Boolean> future : futures) {
+                results.add(future.get(60, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void assertSold(UUID ticketTypeId, int sold) {
+        assertThat(jdbcTemplate.queryForObject("SELECT sum(sold_tickets) FROM ticket_type_shard WHERE ticket_type_id = ?",
+                Integer.class, ticketTypeId)).isEqualTo(sold);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM ticket_type_shard WHERE ticket_type_id = ? AND sold_tickets > capacity",
+                Integer.class, ticketTypeId)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM ticket WHERE ticket_type_id = ?",
+                Integer.class, ticketTypeId)).isEqualTo(sold);
+    }
+
+    private UUID shardedTicketType(int capacity, int shards) {
+        TicketTypeCreationRequest ticketType = new TicketTypeCreationRequest("Standing", "Standing ticket", 30, capacity, shards, false);
+        Event event = fixtures.publishedEvent(fixtures.user(), ticketType);
+        return event.getTicketTypes().getFirst().getId();
+    }
+}
@@ -0,0 +1,181 @@
+package org.example.ticketabackened.service.impl;
+
+import org.example.ticketabackened.PostgresIntegrationTest;
+import org.example.ticketabackened.TestFixtures;
+import org.example.ticketabackened.domain.entity.Event;
+import org.example.ticketabackened.domain.entity.Ticket;
+import org.example.ticketabackened.domain.entity.TicketValidation;
+import org.example.ticketabackened.domain.enums.TicketValidationMethod;
+import org.example.ticketabackened.domain.enums.TicketValidationStatus;
+import org.example.ticketabackened.domain.model.TicketScan;
+import org.example.ticketabackened.service.TicketAdmissionService;
+import org.example.ticketabackened.service.TicketTypeService;
+import org.example.ticketabackened.service.TicketValidationService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.example.ticketabackened.TestFixtures.ticketType;
+
+// Admission against a real database: gates scanning the same ticket at once admit it exactly once, and
+// offline syncs can't use the device clock to jump the queue
+@SpringBootTest
+@Import(TestFixtures.class)
+class TicketValidationServiceImplTest extends PostgresIntegrationTest {
+
+    private static final int SCANS = 48;
+
+    @Autowired
+    private TicketValidationService ticketValidationService;
+
+    @Autowired
+    private TicketAdmissionService ticketAdmissionService;
+
+    @Autowired
+    private TicketTypeService ticketTypeService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Test
+    void parallelScansAdmitOnceThroughTheDatabase() throws Exception {
+        Ticket ticket = purchase(runningEvent());
+
+        List<TicketValidationStatus> statuses = scanInParallel(i -> ticketValidationService.validateTicketManually(ticket.getId()));
+
+        assertAdmittedOnce(ticket, statuses);
+    }
+
+    @Test
+    void parallelScansAdmitOnceThroughTheAdmissionIndex() throws Exception {
+        Event event = runningEvent();
+        Ticket ticket = purchase(event);
+        ticketAdmissionService.loadEvent(event.getId());
+
+        List<TicketValidationStatus> statuses = scanInParallel(i -> ticketValidationService.validateTicketManually(ticket.getId()));
+
+        assertAdmittedOnce(ticket, statuses);
+        assertThat(ticketAdmissionService.isAdmitted(ticket.getId())).isTrue();
+    }
+
+    @Test
+    void scansRacingTheIndexBuildAdmitOnce() throws Exception {
+        Event event = runningEvent();
+        Ticket ticket = purchase(event);
+
+        // Every gate asks for the index as it scans, as the signed QR path does; they share one build
+        List<TicketValidationStatus> statuses = scanInParallel(i -> {
+            ticketAdmissionService.loadEvent(event.getId());
+            return ticketValidationService.validateTicketManually(ticket.getId());
+        });
+
+        assertAdmittedOnce(ticket, statuses);
+        assertThat(ticketAdmissionService.isAdmitted(ticket.getId())).isTrue();
+    }
+
+    @Test
+    void liveScansAndOfflineSyncAdmitOnce() throws Exception {
+        Event event = runningEvent();
+        Ticket ticket = purchase(event);
+        ticketAdmissionService.loadEvent(event.getId());
+
+        List<TicketValidationStatus> statuses = scanInParallel(i -> {
+            if (i % 2 == 0) {
+                return ticketValidationService.validateTicketManually(ticket.getId());
+            }
+            TicketScan scan = new TicketScan(ticket.getId(), null, TicketValidationMethod.MANUAL, LocalDateTime.now());
+            return ticketValidationService.validateTickets(event.getId(), List.of(scan)).getFirst();
+        });
+
+        // An offline scan may overturn a live admission it predates, but one VALID row remains either way
+        assertThat(validRows(ticket)).isEqualTo(1);
+        assertThat(statuses).contains(TicketValidationStatus.VALID);
+    }
+
+    @Test
+    void backdatedOfflineScanCannotOverturnAnAdmission() {
+        Event event = runningEvent();
+        Ticket ticket = purchase(event);
+        assertThat(ticketValidationService.validateTicketManually(ticket.getId()).getValidationStatus())
+                .isEqualTo(TicketValidationStatus.VALID);
+
+        TicketScan backdated = new TicketScan(ticket.getId(), null, TicketValidationMethod.MANUAL, event.getStartDateTime().minusDays(2));
+        TicketValidation result = ticketValidationService.validateTickets(event.getId(), List.of(backdated)).getFirst();
+
+        assertThat(result.getValidationStatus()).isEqualTo(TicketValidationStatus.INVALID);
+        assertThat(validRows(ticket)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT scanned_at IS NULL FROM ticket_validation WHERE ticket_id = ? AND validation_status = 'VALID'",
+                Boolean.class, ticket.getId())).isTrue();
+    }
+
+    @Test
+    void offlineScanDatedInTheFutureCountsAsTheSyncTime() {
+        Event event = runningEvent();
+        Ticket ticket = purchase(event);
+
+        TicketScan ahead = new TicketScan(ticket.getId(), null, TicketValidationMethod.MANUAL, LocalDateTime.now().plusDays(1));
+        TicketValidation result = ticketValidationService.validateTickets(event.getId(), List.of(ahead)).getFirst();
+
+        assertThat(result.getValidationStatus()).isEqualTo(TicketValidationStatus.VALID);
+        assertThat(result.getScannedAt()).isBeforeOrEqualTo(LocalDateTime.now());
+    }
+
+    private List<TicketValidationStatus> scanInParallel(Function<Integer, TicketValidation> scan) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(SCANS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<TicketValidationStatus>> futures = new ArrayList<>(SCANS);
+            for (int i = 0; i < SCANS; i++) {
+                int gate = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return scan.apply(gate).getValidationStatus();
+                }));
+            }
+            start.countDown();
+            List<TicketValidationStatus> statuses = new ArrayList<>(SCANS);
+            for (Future<TicketValidationStatus> future : futures) {
+                statuses.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return statuses;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void assertAdmittedOnce(Ticket ticket, List<TicketValidationStatus> statuses) {
+        assertThat(statuses).filteredOn(TicketValidationStatus.VALID::equals).hasSize(1);
+        assertThat(statuses).filteredOn(TicketValidationStatus.INVALID::equals).hasSize(SCANS - 1);
+        assertThat(validRows(ticket)).isEqualTo(1);
+    }
+
+    private Event runningEvent() {
+        return fixtures.publishedEvent(fixtures.user(), LocalDateTime.now().minusMinutes(30), "Gate Hall",
+                ticketType("Standard", 20, 10, false));
+    }
+
+    private Ticket purchase(Event event) {
+        UUID ticketTypeId = event.getTicketTypes().getFirst().getId();
+        return ticketTypeService.purchaseTicket(fixtures.user().getId(), ticketTypeId);
+    }
+
+    private int validRows(Ticket ticket) {
+        return jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM ticket_validation WHERE ticket_id = ? AND validation_status = 'VALID'",
+                Integer.class, ticket.getId());
+    }
+}
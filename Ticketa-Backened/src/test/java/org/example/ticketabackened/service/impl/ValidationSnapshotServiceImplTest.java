@@ -0,0 +1,115 @@
+package org.example.ticketabackened.service.impl;
+
+import org.example.ticketabackened.PostgresIntegrationTest;
+import org.example.ticketabackened.TestFixtures;
+import org.example.ticketabackened.domain.entity.Event;
+import org.example.ticketabackened.domain.entity.Ticket;
+import org.example.ticketabackened.domain.entity.TicketValidation;
+import org.example.ticketabackened.domain.enums.TicketValidationMethod;
+import org.example.ticketabackened.domain.enums.TicketValidationStatus;
+import org.example.ticketabackened.domain.model.TicketScan;
+import org.example.ticketabackened.repositories.TicketValidationRepository;
+import org.example.ticketabackened.service.TicketTypeService;
+import org.example.ticketabackened.service.TicketValidationService;
+import org.example.ticketabackened.service.ValidationSnapshotService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.example.ticketabackened.TestFixtures.ticketType;
+
+@SpringBootTest(properties = "ticketa.validation.snapshot-overlap-seconds=0")
+@Import(TestFixtures.class)
+class ValidationSnapshotServiceImplTest extends PostgresIntegrationTest {
+
+    private static final byte ADMITTED_TICKETS = 3;
+    private static final byte UNADMITTED_TICKETS = 6;
+
+    @Autowired
+    private ValidationSnapshotService validationSnapshotService;
+
+    @Autowired
+    private TicketValidationService ticketValidationService;
+
+    @Autowired
+    private TicketValidationRepository ticketValidationRepo;
+
+    @Autowired
+    private TicketTypeService ticketTypeService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Test
+    void deltaReportsDemotedAdmissions() throws Exception {
+        Event event = fixtures.publishedEvent(fixtures.user(), LocalDateTime.now().minusMinutes(30), "Snapshot Hall",
+                ticketType("Standard", 20, 10, false));
+        UUID ticketTypeId = event.getTicketTypes().getFirst().getId();
+        Ticket demoted = ticketTypeService.purchaseTicket(fixtures.user().getId(), ticketTypeId);
+        Ticket overturned = ticketTypeService.purchaseTicket(fixtures.user().getId(), ticketTypeId);
+        ticketValidationService.validateTicketManually(demoted.getId());
+        ticketValidationService.validateTicketManually(overturned.getId());
+
+        long since = System.currentTimeMillis();
+        Thread.sleep(20);
+        // One admission withdrawn outright, one moved to an earlier offline scan of the same ticket
+        transactionTemplate.executeWithoutResult(status -> ticketValidationRepo.updateValidationStatus(
+                ticketValidationRepo.findByTicketIdInAndValidationStatus(List.of(demoted.getId()), TicketValidationStatus.VALID)
+                        .stream().map(TicketValidation::getId).toList(),
+                TicketValidationStatus.INVALID, LocalDateTime.now()));
+        ticketValidationService.validateTickets(event.getId(), List.of(
+                new TicketScan(overturned.getId(), null, TicketValidationMethod.MANUAL, LocalDateTime.now().minusMinutes(10))));
+
+        Map<Byte, List<UUID>> delta = read(event.getId(), since);
+
+        assertThat(delta.get(UNADMITTED_TICKETS)).containsExactly(demoted.getId());
+        assertThat(delta.get(ADMITTED_TICKETS)).containsExactly(overturned.getId());
+    }
+
+    @Test
+    void fullSnapshotHasNoUnadmittedSection() throws Exception {
+        Event event = fixtures.publishedEvent(fixtures.user(), LocalDateTime.now().minusMinutes(30), "Snapshot Hall",
+                ticketType("Standard", 20, 10, false));
+        Ticket ticket = ticketTypeService.purchaseTicket(fixtures.user().getId(), event.getTicketTypes().getFirst().getId());
+        ticketValidationService.validateTicketManually(ticket.getId());
+
+        Map<Byte, List<UUID>> full = read(event.getId(), null);
+
+        assertThat(full).doesNotContainKey(UNADMITTED_TICKETS);
+        assertThat(full.get(ADMITTED_TICKETS)).containsExactly(ticket.getId());
+    }
+
+    private Map<Byte, List<UUID>> read(UUID eventId, Long since) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        validationSnapshotService.writeSnapshot(eventId, since, bytes);
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        in.readInt();
+        in.readLong();
+        in.readByte();
+        Map<Byte, List<UUID>> sections = new HashMap<>();
+        while (in.available() > 0) {
+            byte kind = in.readByte();
+            int count = in.readInt();
+            List<UUID> ids = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                ids.add(new UUID(in.readLong(), in.readLong()));
+            }
+            sections.put(kind, ids);
+        }
+        return sections;
+    }
+}
@@ -28,7 +28,8 @@ export function SimplePagination({ pagination, onPageChange }) {
       {/* Page Info */}
       <div className="text-sm font-medium text-gray-400">
         <span className="text-cyan-400">Page {currentPage + 1}</span> 
-        <span className="text-gray-500"> of {totalPages}</span>
+        {/* Search results come without a total */}
+        {totalPages !== undefined && <span className="text-gray-500"> of {totalPages}</span>}
       </div>
 
       {/* Next Button */}
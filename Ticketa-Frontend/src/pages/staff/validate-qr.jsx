@@ -66,7 +66,11 @@ const ValidateQrPage = () => {
   setValidatedTicketId(undefined);
   setIsValidating(true);
   // include eventId so backend can scope validation if supported
-  const response = await validateTicket(user.access_token, { id, method, eventId: eventIdParam });
+  // scanned QR content goes in `code`, it may be a signed payload rather than a bare id
+  const request = method === TicketValidationMethod.QR_SCAN
+    ? { code: id, method, eventId: eventIdParam }
+    : { id, method, eventId: eventIdParam };
+  const response = await validateTicket(user.access_token, request);
   console.debug("validateTicket response:", response);
   // backend returns { ticketId, validationStatus }
   let status = (response?.validationStatus ?? response?.status ?? null);